@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures {@code FindCommand} on address books of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FindCommandBenchmark {
+
+    private static final long SEED = 1;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Model model;
+    private FindCommand existingNameCommand;
+    private FindCommand missingNameCommand;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generator.generatePersons(size));
+        model = new ModelManager(addressBook, new UserPrefs());
+        // Matches everyone sharing a first name or surname with this person
+        existingNameCommand = new FindCommand(new NameContainsKeywordsPredicate(
+                Arrays.asList(generator.getPerson(size / 2).getName().fullName.split(" "))));
+        missingNameCommand = new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Nobody")));
+    }
+
+    @Benchmark
+    public CommandResult findExistingName() {
+        return existingNameCommand.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult findMissingName() {
+        return missingNameCommand.execute(model);
+    }
+}
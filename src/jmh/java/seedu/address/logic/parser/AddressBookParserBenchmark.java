@@ -0,0 +1,74 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how many user inputs per second {@code AddressBookParser} turns into commands.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private static final String ADD_ARGUMENTS = " n/John Doe p/98765432 e/johnd@example.com "
+            + "a/311, Clementi Ave 2, #02-25 t/friends t/owesMoney";
+
+    /** A mix of inputs resembling a scripted batch. */
+    private static final String[] INPUTS = {
+        "add" + ADD_ARGUMENTS,
+        "add n/Jane Roe p/91234567 e/jane@example.com a/\"Blk 5 p/ 2, Jurong West\"",
+        "edit 1 p/91234567 e/johndoe@example.com",
+        "edit 2 n/Betsy Crower t/",
+        "delete 3",
+        "find alice bob charlie",
+        "list",
+        "undo",
+        "redo",
+        "clear",
+    };
+
+    private AddressBookParser parser;
+
+    @Setup
+    public void setUp() {
+        parser = new AddressBookParser();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(10) // INPUTS.length
+    public void parseMixedCommands(Blackhole blackhole) throws ParseException {
+        for (String input : INPUTS) {
+            blackhole.consume(parser.parseCommand(input));
+        }
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenizeAddArguments() {
+        return ArgumentTokenizer.tokenize(ADD_ARGUMENTS, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS,
+                PREFIX_TAG);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Compares searching names in a {@code ColumnarAddressBook} with filtering the persons of an {@code AddressBook}
+ * holding the same persons.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ColumnarAddressBookBenchmark {
+
+    private static final long SEED = 1;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook addressBook;
+    private ColumnarAddressBook columnarAddressBook;
+    private List<String> keywords;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        addressBook = new AddressBook();
+        addressBook.setPersons(generator.generatePersons(size));
+        columnarAddressBook = ColumnarAddressBook.of(addressBook);
+        // Matches everyone sharing a first name or surname with this person
+        keywords = Arrays.asList(generator.getPerson(size / 2).getName().fullName.split(" "));
+        predicate = new NameContainsKeywordsPredicate(keywords);
+    }
+
+    @Benchmark
+    public long findInObjects() {
+        return addressBook.getPersonList().stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public int findInColumns() {
+        return columnarAddressBook.find(keywords).size();
+    }
+}
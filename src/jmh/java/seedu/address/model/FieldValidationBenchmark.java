@@ -0,0 +1,112 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures validating the fields of every person of an address book as it is loaded, with the validators of the
+ * fields and with the regular expressions that they replace, and building the persons from those fields.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FieldValidationBenchmark {
+
+    private static final long SEED = 1;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private String[] names;
+    private String[] phones;
+    private String[] emails;
+    private String[] addresses;
+    private String[][] tagNames;
+
+    @Setup
+    public void setUp() {
+        List<Person> persons = new SyntheticDataGenerator(SEED).generatePersons(size);
+        names = new String[size];
+        phones = new String[size];
+        emails = new String[size];
+        addresses = new String[size];
+        tagNames = new String[size][];
+        for (int i = 0; i < size; i++) {
+            Person person = persons.get(i);
+            names[i] = person.getName().fullName;
+            phones[i] = person.getPhone().getValue();
+            emails[i] = person.getEmail().getValue();
+            addresses[i] = person.getAddress().value;
+            tagNames[i] = person.getTags().stream().map(tag -> tag.tagName).toArray(String[]::new);
+        }
+    }
+
+    @Benchmark
+    public int validateWithRegexes() {
+        int validCount = 0;
+        for (int i = 0; i < size; i++) {
+            boolean isValid = names[i].matches(Name.VALIDATION_REGEX)
+                    && phones[i].matches(Phone.VALIDATION_REGEX)
+                    && emails[i].matches(Email.VALIDATION_REGEX)
+                    && addresses[i].matches(Address.VALIDATION_REGEX);
+            for (String tagName : tagNames[i]) {
+                isValid &= tagName.matches(Tag.VALIDATION_REGEX);
+            }
+            validCount += isValid ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public int validate() {
+        int validCount = 0;
+        for (int i = 0; i < size; i++) {
+            boolean isValid = Name.isValidName(names[i])
+                    && Phone.isValidPhone(phones[i])
+                    && Email.isValidEmail(emails[i])
+                    && Address.isValidAddress(addresses[i]);
+            for (String tagName : tagNames[i]) {
+                isValid &= Tag.isValidTagName(tagName);
+            }
+            validCount += isValid ? 1 : 0;
+        }
+        return validCount;
+    }
+
+    @Benchmark
+    public void buildPersons(Blackhole blackhole) {
+        for (int i = 0; i < size; i++) {
+            Tag[] tags = new Tag[tagNames[i].length];
+            for (int j = 0; j < tags.length; j++) {
+                tags[j] = Tag.of(tagNames[i][j]);
+            }
+            blackhole.consume(new Person(new Name(names[i]), new Phone(phones[i]), new Email(emails[i]),
+                    new Address(addresses[i]), TagSet.of(List.of(tags))));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package seedu.address.model;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.Footprint;
+import seedu.address.model.util.Footprint.Component;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Reports the memory taken by models of different sizes, so that changes to how persons are stored can be compared.
+ *
+ * Besides the time taken by {@code Model#estimateFootprint()}, every run reports as secondary results the estimated
+ * bytes per person, overall and for each component, and the bytes per person actually retained on the heap when the
+ * model was built, measured after a full GC.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ModelFootprintBenchmark {
+
+    private static final long SEED = 1;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Model model;
+    private long measuredBytesPerPerson;
+
+    @Setup
+    public void setUp() {
+        long heapBefore = usedHeapAfterGc();
+        model = createModel(size);
+        measuredBytesPerPerson = (usedHeapAfterGc() - heapBefore) / size;
+    }
+
+    /**
+     * Returns a model of {@code size} generated persons. Once this returns, only the model refers to them.
+     */
+    private static Model createModel(int size) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new SyntheticDataGenerator(SEED).generatePersons(size));
+        return new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Benchmark
+    public Footprint estimateFootprint(FootprintCounters counters) {
+        Footprint footprint = model.estimateFootprint();
+        counters.record(footprint, measuredBytesPerPerson);
+        return footprint;
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * The bytes per person of the last estimate, reported by JMH alongside the benchmark's own results.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class FootprintCounters {
+
+        private long estimatedBytesPerPerson;
+        private long measuredBytesPerPerson;
+        private long personObjectBytesPerPerson;
+        private long stringBytesPerPerson;
+        private long tagSetBytesPerPerson;
+        private long personListBytesPerPerson;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            estimatedBytesPerPerson = 0;
+            measuredBytesPerPerson = 0;
+            personObjectBytesPerPerson = 0;
+            stringBytesPerPerson = 0;
+            tagSetBytesPerPerson = 0;
+            personListBytesPerPerson = 0;
+        }
+
+        void record(Footprint footprint, long measuredBytesPerPerson) {
+            int personCount = footprint.getPersonCount();
+            this.estimatedBytesPerPerson = footprint.getBytesPerPerson();
+            this.measuredBytesPerPerson = measuredBytesPerPerson;
+            this.personObjectBytesPerPerson = footprint.getBytes(Component.PERSON_OBJECTS) / personCount;
+            this.stringBytesPerPerson = footprint.getBytes(Component.STRINGS) / personCount;
+            this.tagSetBytesPerPerson = footprint.getBytes(Component.TAG_SETS) / personCount;
+            this.personListBytesPerPerson = footprint.getBytes(Component.PERSON_LISTS) / personCount;
+        }
+
+        public long estimatedBytesPerPerson() {
+            return estimatedBytesPerPerson;
+        }
+
+        public long measuredBytesPerPerson() {
+            return measuredBytesPerPerson;
+        }
+
+        public long personObjectBytesPerPerson() {
+            return personObjectBytesPerPerson;
+        }
+
+        public long stringBytesPerPerson() {
+            return stringBytesPerPerson;
+        }
+
+        public long tagSetBytesPerPerson() {
+            return tagSetBytesPerPerson;
+        }
+
+        public long personListBytesPerPerson() {
+            return personListBytesPerPerson;
+        }
+    }
+}
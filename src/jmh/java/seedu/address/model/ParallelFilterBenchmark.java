@@ -0,0 +1,77 @@
+package seedu.address.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.util.ParallelFilter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures filtering the persons of an address book with {@code ParallelFilter} on different numbers of threads, with
+ * the predicate of the {@code find} command, which is cheap, and with one that searches addresses, which is not.
+ *
+ * Compare the results for each parallelism with those for a parallelism of 1, which filters on the calling thread.
+ * Speedups only show on a machine with at least as many cores as the parallelism.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ParallelFilterBenchmark {
+
+    private static final long SEED = 1;
+
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int parallelism;
+
+    private List<Person> persons;
+    private ParallelFilter filter;
+    private Predicate<Person> namePredicate;
+    private Predicate<Person> addressPredicate;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generator.generatePersons(size));
+        persons = addressBook.getPersonList();
+        filter = new ParallelFilter(0, parallelism);
+        // Matches everyone sharing a first name or surname with this person
+        namePredicate = new NameContainsKeywordsPredicate(
+                Arrays.asList(generator.getPerson(size / 2).getName().fullName.split(" ")));
+        addressPredicate = person -> StringUtil.containsWordIgnoreCase(person.getAddress().value, "Street");
+    }
+
+    @Benchmark
+    public BitSet filterNames() {
+        return filter.filter(persons, namePredicate);
+    }
+
+    @Benchmark
+    public BitSet filterAddresses() {
+        return filter.filter(persons, addressPredicate);
+    }
+}
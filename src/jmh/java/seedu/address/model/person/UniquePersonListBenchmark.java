@@ -0,0 +1,66 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures {@code UniquePersonList.add} and {@code UniquePersonList.contains} on lists of different sizes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class UniquePersonListBenchmark {
+
+    private static final long SEED = 1;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private UniquePersonList uniquePersonList;
+    private Person presentPerson;
+    private Person absentPerson;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(generator.generatePersons(size));
+        presentPerson = generator.getPerson(size / 2);
+        absentPerson = generator.getPerson(size);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return uniquePersonList.contains(presentPerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return uniquePersonList.contains(absentPerson);
+    }
+
+    /**
+     * Adds a person, then removes it again so that every invocation sees a list of the same size.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        uniquePersonList.add(absentPerson);
+        uniquePersonList.removeAt(size);
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures saving and reading address books of different sizes with {@code JsonAddressBookStorage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class JsonAddressBookStorageBenchmark {
+
+    private static final long SEED = 1;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private Path directory;
+    private ReadOnlyAddressBook addressBook;
+    private JsonAddressBookStorage readStorage;
+    private JsonAddressBookStorage saveStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("addressbook-benchmark");
+        AddressBook generated = new AddressBook();
+        generated.setPersons(new SyntheticDataGenerator(SEED).generatePersons(size));
+        addressBook = generated;
+        readStorage = new JsonAddressBookStorage(directory.resolve("read.json"));
+        readStorage.saveAddressBook(addressBook);
+        saveStorage = new JsonAddressBookStorage(directory.resolve("save.json"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readStorage.getAddressBookFilePath());
+        Files.deleteIfExists(saveStorage.getAddressBookFilePath());
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyAddressBook> read() throws DataConversionException {
+        return readStorage.readAddressBook();
+    }
+}
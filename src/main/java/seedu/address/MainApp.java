@@ -1,12 +1,19 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -15,6 +22,10 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commandlog.CommandLog;
+import seedu.address.logic.management.AddressBookMonitor;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.MetricsReporter;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -45,6 +56,10 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected MetricsReporter metricsReporter;
+    protected Recording flightRecording;
+    protected AddressBookMonitor monitor;
+    protected CommandLog commandLog;
 
     @Override
     public void init() throws Exception {
@@ -52,18 +67,27 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
+        initFlightRecording(appParameters.getFlightRecordingPath());
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = storageManager;
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        ModelManager modelManager = initModelManager(storage, userPrefs);
+        model = modelManager;
 
-        logic = new LogicManager(model, storage);
+        CommandMetrics commandMetrics = new CommandMetrics();
+        commandLog = initCommandLog(config.getCommandLogDirectory(), model.getAddressBook());
+        logic = new LogicManager(model, storage, commandMetrics, commandLog);
+        metricsReporter = new MetricsReporter(commandMetrics);
+        metricsReporter.start(config.getMetricsLogIntervalSeconds());
+        monitor = new AddressBookMonitor(modelManager, storageManager, commandMetrics, Platform::runLater);
+        monitor.register(ManagementFactory.getPlatformMBeanServer());
 
         ui = new UiManager(logic);
     }
@@ -73,7 +97,7 @@ public class MainApp extends Application {
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ModelManager initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -93,6 +117,50 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Starts a JDK Flight Recorder recording, with the JDK's default settings, that is written to
+     * {@code recordingPath} when the app stops. Does nothing if {@code recordingPath} is null.
+     */
+    private void initFlightRecording(Path recordingPath) {
+        if (recordingPath == null) {
+            return;
+        }
+        try {
+            Recording recording = new Recording(Configuration.getConfiguration("default"));
+            recording.setName("AddressBook");
+            recording.setDestination(recordingPath);
+            recording.setDumpOnExit(true);
+            recording.start();
+            flightRecording = recording;
+            logger.info("Recording flight recorder events to " + recordingPath);
+        } catch (IOException | ParseException | IllegalStateException e) {
+            logger.warning("Failed to start flight recording : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns a {@code CommandLog} recording to a new file in {@code directory}, next to a copy of
+     * {@code startingData} to replay it against. Nothing is recorded if {@code directory} is null or the files
+     * cannot be written.
+     */
+    private CommandLog initCommandLog(Path directory, ReadOnlyAddressBook startingData) {
+        if (directory == null) {
+            return CommandLog.disabled();
+        }
+        String session = "commands-" + DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").format(LocalDateTime.now());
+        Path startingDataPath = directory.resolve(session + "-start.json");
+        Path commandLogPath = directory.resolve(session + ".jsonl");
+        try {
+            new JsonAddressBookStorage(startingDataPath).saveAddressBook(startingData);
+            CommandLog log = CommandLog.open(commandLogPath);
+            logger.info("Recording commands to " + commandLogPath + ", starting from " + startingDataPath);
+            return log;
+        } catch (IOException e) {
+            logger.warning("Failed to start the command log : " + StringUtil.getDetails(e));
+            return CommandLog.disabled();
+        }
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -174,10 +242,19 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        monitor.unregister(ManagementFactory.getPlatformMBeanServer());
+        metricsReporter.stop();
+        metricsReporter.report();
+        commandLog.close();
+        if (flightRecording != null) {
+            flightRecording.stop(); // writes the recording to its destination
+            flightRecording.close();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.flush();
     }
 }
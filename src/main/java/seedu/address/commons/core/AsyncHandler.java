@@ -0,0 +1,211 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a dedicated writer thread, so that logging
+ * does not make the calling thread wait for formatting or I/O.
+ *
+ * Records wait in a bounded, lock-free queue. When the queue is full, the {@link OverflowPolicy} decides whether
+ * new records are dropped or their callers wait for room. Dropped records are counted and reported in the log.
+ *
+ * The class and method that logged a record are not looked up, since walking the caller's stack is what this
+ * handler avoids; the logger's name is given as the source instead.
+ */
+public class AsyncHandler extends Handler {
+
+    /**
+     * What to do with a record when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** Discard the record, counting it. */
+        DROP,
+        /** Wait until the writer thread has made room. */
+        BLOCK
+    }
+
+    private static final long FULL_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final Queue<LogRecord> queue = new ConcurrentLinkedQueue<>();
+    /** The number of records in, about to be added to, or being written from {@code queue}. */
+    private final AtomicInteger queuedCount = new AtomicInteger();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final int capacity;
+    private final List<Handler> targets;
+    private final Thread writer;
+    /** The part of {@code droppedCount} already reported in the log. Only used by the writer thread. */
+    private long reportedDroppedCount;
+    /** Whether records have been written since the targets were last flushed. Only used by the writer thread. */
+    private boolean hasUnflushedRecords;
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isWriterIdle;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that passes up to {@code capacity} waiting records on to {@code targets}.
+     */
+    public AsyncHandler(int capacity, OverflowPolicy overflowPolicy, Handler... targets) {
+        requireNonNull(overflowPolicy);
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.targets = Arrays.asList(targets.clone());
+        writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        requireNonNull(overflowPolicy);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        if (!reserveSlot()) {
+            droppedCount.incrementAndGet();
+            if (isWriterIdle) {
+                LockSupport.unpark(writer); // to report the dropped record
+            }
+            return;
+        }
+        record.setSourceClassName(record.getLoggerName());
+        record.setSourceMethodName(null);
+        queue.offer(record);
+        if (isWriterIdle) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Claims room in the queue for one record, waiting for it under {@code OverflowPolicy.BLOCK}.
+     * Returns false if the record should be dropped instead.
+     */
+    private boolean reserveSlot() {
+        while (true) {
+            int count = queuedCount.get();
+            if (count < capacity) {
+                if (queuedCount.compareAndSet(count, count + 1)) {
+                    return true;
+                }
+                continue;
+            }
+            if (overflowPolicy == OverflowPolicy.DROP || isClosed) {
+                return false;
+            }
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+    }
+
+    /**
+     * Waits, for a short while at most, for the records queued so far to be written, then flushes the targets.
+     */
+    @Override
+    public void flush() {
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while (queuedCount.get() > 0 && writer.isAlive() && System.nanoTime() < deadline) {
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records already queued, then closes this and the targets. Later records are ignored.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Writes records as they arrive, flushing the targets whenever the queue runs empty after a write.
+     * While the queue stays empty, the writer parks until {@code publish}, {@code flush} or {@code close} wakes it.
+     */
+    private void writeRecords() {
+        while (!isClosed || !queue.isEmpty()) {
+            LogRecord record = queue.poll();
+            if (record == null) {
+                reportDroppedRecords();
+                if (hasUnflushedRecords) {
+                    targets.forEach(Handler::flush);
+                    hasUnflushedRecords = false;
+                }
+                // publish checks isWriterIdle after adding its record, so either it unparks the writer or the
+                // writer sees the record here and does not park
+                isWriterIdle = true;
+                if (queue.isEmpty() && !isClosed) {
+                    LockSupport.park(this);
+                }
+                isWriterIdle = false;
+                continue;
+            }
+            write(record);
+            queuedCount.decrementAndGet();
+        }
+        reportDroppedRecords();
+        targets.forEach(Handler::flush);
+    }
+
+    private void reportDroppedRecords() {
+        long total = droppedCount.get();
+        long dropped = total - reportedDroppedCount;
+        reportedDroppedCount = total;
+        if (dropped > 0) {
+            LogRecord report = new LogRecord(Level.WARNING,
+                    dropped + " log records were dropped because the log queue was full");
+            report.setLoggerName(AsyncHandler.class.getSimpleName());
+            report.setSourceClassName(AsyncHandler.class.getSimpleName());
+            write(report);
+        }
+    }
+
+    private void write(LogRecord record) {
+        hasUnflushedRecords = true;
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to write log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+}
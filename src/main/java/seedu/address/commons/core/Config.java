@@ -5,6 +5,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 import java.util.logging.Level;
 
+import seedu.address.commons.core.AsyncHandler.OverflowPolicy;
+
 /**
  * Config values used by the app
  */
@@ -15,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long metricsLogIntervalSeconds = 300;
+    private OverflowPolicy logOverflowPolicy = OverflowPolicy.BLOCK;
+    private Path commandLogDirectory;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +37,40 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns whether log messages are dropped, or their loggers wait, when messages are logged faster than
+     * they can be written.
+     */
+    public OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
+    /**
+     * Returns how often, in seconds, command statistics are written to the log. Zero or less turns this off.
+     */
+    public long getMetricsLogIntervalSeconds() {
+        return metricsLogIntervalSeconds;
+    }
+
+    public void setMetricsLogIntervalSeconds(long metricsLogIntervalSeconds) {
+        this.metricsLogIntervalSeconds = metricsLogIntervalSeconds;
+    }
+
+    /**
+     * Returns the directory to record the commands of each session in, or null if commands are not recorded.
+     */
+    public Path getCommandLogDirectory() {
+        return commandLogDirectory;
+    }
+
+    public void setCommandLogDirectory(Path commandLogDirectory) {
+        this.commandLogDirectory = commandLogDirectory;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +83,16 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && metricsLogIntervalSeconds == o.metricsLogIntervalSeconds
+                && logOverflowPolicy == o.logOverflowPolicy
+                && Objects.equals(commandLogDirectory, o.commandLogDirectory);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsLogIntervalSeconds, logOverflowPolicy,
+                commandLogDirectory);
     }
 
     @Override
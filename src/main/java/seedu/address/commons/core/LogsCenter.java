@@ -2,51 +2,55 @@ package seedu.address.commons.core;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
+import seedu.address.commons.core.AsyncHandler.OverflowPolicy;
+
 /**
  * Configures and manages loggers and handlers, including their logging level
  * Named {@link Logger}s can be obtained from this class<br>
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written by a background thread (see {@link AsyncHandler}), so logging does not slow down the
+ *   thread that logs. Build expensive messages with a {@code Supplier}, e.g. {@code logger.fine(() -> ...)},
+ *   so that they are only built if they will be logged.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
+    private static final int MAX_QUEUED_RECORDS = 8192;
     private static final String LOG_FILE = "addressbook.log";
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
+    private static AsyncHandler asyncHandler;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
 
     /**
-     * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * Initializes with a custom log level and overflow policy (specified in the {@code config} object)
+     * The logging level of all loggers, existing or not, is changed.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        getAsyncHandler().setLevel(currentLogLevel);
+        getAsyncHandler().setOverflowPolicy(config.getLogOverflowPolicy());
+        loggers.values().forEach(existingLogger -> existingLogger.setLevel(currentLogLevel));
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
     /**
-     * Creates a logger with the given name.
+     * Returns the logger with the given name, creating it if this is the first request for it.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return loggers.computeIfAbsent(name, LogsCenter::createLogger);
     }
 
     /**
@@ -60,53 +64,70 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Waits, for a short while at most, for the messages logged so far to be written.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    public static void flush() {
+        getAsyncHandler().flush();
     }
 
-    /**
-     * Remove all the handlers from {@code logger}.
-     */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+    private static Logger createLogger(String name) {
+        Logger logger = Logger.getLogger(name);
+        logger.setUseParentHandlers(false);
+        logger.setLevel(currentLogLevel);
+
+        removeHandlers(logger);
+        logger.addHandler(getAsyncHandler());
+
+        return logger;
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Returns the handler shared by all loggers, creating it and the handlers it writes to if they are missing.
      */
-    private static void addFileHandler(Logger logger) {
+    private static synchronized AsyncHandler getAsyncHandler() {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
+        }
+        return asyncHandler;
+    }
+
+    private static AsyncHandler createAsyncHandler() {
+        Handler consoleHandler = createConsoleHandler();
+        Handler[] targets;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            targets = new Handler[] {consoleHandler, createFileHandler()};
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
+            targets = new Handler[] {consoleHandler};
         }
+        AsyncHandler handler = new AsyncHandler(MAX_QUEUED_RECORDS, OverflowPolicy.BLOCK, targets);
+        handler.setLevel(currentLogLevel);
+        return handler;
+    }
+
+    /**
+     * Remove all the handlers from {@code logger}.
+     */
+    private static void removeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(logger::removeHandler);
     }
 
     /**
      * Creates a {@code FileHandler} for the log file.
+     * Its level is left open, since records are filtered before they reach it.
      * @throws IOException if there are problems opening the file.
      */
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
     private static ConsoleHandler createConsoleHandler() {
         ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
+        consoleHandler.setLevel(Level.ALL);
         return consoleHandler;
     }
 }
@@ -0,0 +1,62 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event covering one read or save of the address book file.
+ */
+@Name("seedu.address.AddressBookStorage")
+@Label("Address Book Storage")
+@Category({"AddressBook", "Storage"})
+@Description("Read or save of the address book file")
+@StackTrace(false)
+public class AddressBookStorageEvent extends Event {
+
+    public static final String OPERATION_READ = "read";
+    public static final String OPERATION_SAVE = "save";
+
+    @Label("Operation")
+    @Description("Either read or save")
+    private String operation;
+
+    @Label("Path")
+    private String path;
+
+    @Label("Bytes")
+    @Description("Size of the file read or written")
+    @DataAmount
+    private long bytes;
+
+    @Label("Records")
+    @Description("Number of persons read or written")
+    private int recordCount;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setOperation(String operation) {
+        this.operation = operation;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setRecordCount(int recordCount) {
+        this.recordCount = recordCount;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
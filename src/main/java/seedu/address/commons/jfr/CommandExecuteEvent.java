@@ -0,0 +1,34 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event covering the execution of one command against the model.
+ */
+@Name("seedu.address.CommandExecute")
+@Label("Command Execute")
+@Category({"AddressBook", "Command"})
+@Description("Execution of one command against the model")
+@StackTrace(false)
+public class CommandExecuteEvent extends Event {
+
+    @Label("Command Type")
+    private String commandType;
+
+    @Label("Succeeded")
+    @Description("False if the command failed with an error shown to the user")
+    private boolean succeeded;
+
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event covering the parsing of one user input into a command.
+ */
+@Name("seedu.address.CommandParse")
+@Label("Command Parse")
+@Category({"AddressBook", "Command"})
+@Description("Parsing of one user input into a command")
+@StackTrace(false)
+public class CommandParseEvent extends Event {
+
+    @Label("Command Type")
+    @Description("Class of the parsed command, or (unparsed) if the input is invalid")
+    private String commandType;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setCommandType(String commandType) {
+        this.commandType = commandType;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
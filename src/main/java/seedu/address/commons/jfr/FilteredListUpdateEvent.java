@@ -0,0 +1,35 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event covering the recomputation of the filtered person list under a new predicate.
+ */
+@Name("seedu.address.FilteredListUpdate")
+@Label("Filtered List Update")
+@Category({"AddressBook", "Model"})
+@Description("Recomputation of the filtered person list under a new predicate")
+@StackTrace(false)
+public class FilteredListUpdateEvent extends Event {
+
+    @Label("Persons")
+    @Description("Number of persons the predicate was tested against")
+    private int sourceSize;
+
+    @Label("Matches")
+    @Description("Number of persons shown after the update")
+    private int matchedSize;
+
+    public void setSourceSize(int sourceSize) {
+        this.sourceSize = sourceSize;
+    }
+
+    public void setMatchedSize(int matchedSize) {
+        this.matchedSize = matchedSize;
+    }
+}
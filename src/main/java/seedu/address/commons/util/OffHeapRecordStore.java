@@ -0,0 +1,214 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Stores variable-length records of bytes outside the Java heap, in direct {@code ByteBuffer} slabs.
+ *
+ * Each record is given a block whose size is a power of two, large enough for the record and its length, and is
+ * referred to by a {@code long} handle. Freed blocks are kept on a free list for their size and reused before new
+ * space is taken from a slab, so a store whose records are replaced by others of about the same size stops growing.
+ * The garbage collector never looks inside the slabs, so the heap taken by a store, and the time the collector spends
+ * on it, hardly depend on the number of records held.
+ *
+ * Not thread-safe. Slabs are only released when the store itself is collected.
+ */
+public class OffHeapRecordStore {
+
+    public static final int DEFAULT_SLAB_BYTES = 1 << 20;
+
+    private static final int MIN_BLOCK_BYTES = 32;
+    private static final int SIZE_CLASS_SHIFT = Integer.numberOfTrailingZeros(MIN_BLOCK_BYTES);
+    private static final int LENGTH_BYTES = Integer.BYTES;
+    private static final int INITIAL_FREE_LIST_CAPACITY = 16;
+
+    private final int slabBytes;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    /** The free blocks of each size, {@code MIN_BLOCK_BYTES << i} for list {@code i}, as stacks of handles. */
+    private final long[][] freeBlocks;
+    private final int[] freeBlockCounts;
+    /** The position in the last slab from which no block has been handed out yet. */
+    private int slabPosition;
+    private int recordCount;
+    private long recordBytes;
+
+    /**
+     * Creates an empty store with slabs of {@code DEFAULT_SLAB_BYTES}.
+     */
+    public OffHeapRecordStore() {
+        this(DEFAULT_SLAB_BYTES);
+    }
+
+    /**
+     * Creates an empty store with slabs of {@code slabBytes}, which must be a power of two of at least 32 bytes.
+     * No record can take more than a slab.
+     */
+    public OffHeapRecordStore(int slabBytes) {
+        checkArgument(slabBytes >= MIN_BLOCK_BYTES && Integer.bitCount(slabBytes) == 1,
+                "Slab size must be a power of two of at least " + MIN_BLOCK_BYTES + " bytes");
+        this.slabBytes = slabBytes;
+        int sizeCount = sizeClassOf(slabBytes) + 1;
+        freeBlocks = new long[sizeCount][];
+        freeBlockCounts = new int[sizeCount];
+        slabPosition = slabBytes; // there is no slab to take blocks from yet
+    }
+
+    /**
+     * Stores the first {@code length} bytes of {@code record} and returns the handle to read them back with.
+     *
+     * @throws IllegalArgumentException if the record does not fit in a slab.
+     */
+    public long add(byte[] record, int length) {
+        requireNonNull(record);
+        checkArgument(length >= 0 && length <= record.length, "Invalid record length " + length);
+        checkArgument(length <= slabBytes - LENGTH_BYTES,
+                "A record of " + length + " bytes does not fit in a slab of " + slabBytes + " bytes");
+
+        int sizeClass = sizeClassOf(LENGTH_BYTES + length);
+        long handle = freeBlockCounts[sizeClass] > 0
+                ? freeBlocks[sizeClass][--freeBlockCounts[sizeClass]]
+                : takeNewBlock(sizeClass);
+        ByteBuffer slab = slabs.get(slabIndex(handle));
+        int offset = offset(handle);
+        slab.putInt(offset, length);
+        ByteBuffer view = slab.duplicate();
+        view.position(offset + LENGTH_BYTES);
+        view.put(record, 0, length);
+
+        recordCount++;
+        recordBytes += length;
+        return handle;
+    }
+
+    /**
+     * Returns the length of the record at {@code handle}.
+     */
+    public int length(long handle) {
+        return slabs.get(slabIndex(handle)).getInt(offset(handle));
+    }
+
+    /**
+     * Copies the record at {@code handle} into the start of {@code destination}, which must be large enough for it,
+     * and returns its length.
+     */
+    public int read(long handle, byte[] destination) {
+        requireNonNull(destination);
+        int length = length(handle);
+        checkArgument(destination.length >= length, "Destination too small for a record of " + length + " bytes");
+        ByteBuffer view = slabs.get(slabIndex(handle)).duplicate();
+        view.position(offset(handle) + LENGTH_BYTES);
+        view.get(destination, 0, length);
+        return length;
+    }
+
+    /**
+     * Returns true if the record at {@code handle} starts with the first {@code prefixLength} bytes of {@code prefix}.
+     * Reads the record in place, without copying it.
+     */
+    public boolean startsWith(long handle, byte[] prefix, int prefixLength) {
+        requireNonNull(prefix);
+        if (length(handle) < prefixLength) {
+            return false;
+        }
+        ByteBuffer slab = slabs.get(slabIndex(handle));
+        int start = offset(handle) + LENGTH_BYTES;
+        for (int i = 0; i < prefixLength; i++) {
+            if (slab.get(start + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Frees the record at {@code handle}, whose block may then be given to another record.
+     * The handle must not be used afterwards.
+     */
+    public void free(long handle) {
+        int length = length(handle);
+        pushFreeBlock(sizeClassOf(LENGTH_BYTES + length), handle);
+        recordCount--;
+        recordBytes -= length;
+    }
+
+    /**
+     * Returns the number of records held.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns the total length of the records held, excluding the space lost to rounding up blocks.
+     */
+    public long getRecordBytes() {
+        return recordBytes;
+    }
+
+    /**
+     * Returns the memory taken outside the heap by the slabs.
+     */
+    public long getOffHeapBytes() {
+        return (long) slabs.size() * slabBytes;
+    }
+
+    private long takeNewBlock(int sizeClass) {
+        int blockBytes = MIN_BLOCK_BYTES << sizeClass;
+        if (slabBytes - slabPosition < blockBytes) {
+            freeRestOfSlab();
+            slabs.add(ByteBuffer.allocateDirect(slabBytes));
+            slabPosition = 0;
+        }
+        long handle = handle(slabs.size() - 1, slabPosition);
+        slabPosition += blockBytes;
+        return handle;
+    }
+
+    /**
+     * Puts the unused end of the last slab on the free lists, in the largest blocks that fit.
+     */
+    private void freeRestOfSlab() {
+        while (slabBytes - slabPosition >= MIN_BLOCK_BYTES) {
+            int sizeClass = sizeClassOf(Integer.highestOneBit(slabBytes - slabPosition));
+            // blocks start at a multiple of their size, so the rest of the slab is always carved exactly
+            sizeClass = Math.min(sizeClass, Integer.numberOfTrailingZeros(slabPosition) - SIZE_CLASS_SHIFT);
+            pushFreeBlock(sizeClass, handle(slabs.size() - 1, slabPosition));
+            slabPosition += MIN_BLOCK_BYTES << sizeClass;
+        }
+    }
+
+    private void pushFreeBlock(int sizeClass, long handle) {
+        if (freeBlocks[sizeClass] == null) {
+            freeBlocks[sizeClass] = new long[INITIAL_FREE_LIST_CAPACITY];
+        } else if (freeBlockCounts[sizeClass] == freeBlocks[sizeClass].length) {
+            freeBlocks[sizeClass] = Arrays.copyOf(freeBlocks[sizeClass], 2 * freeBlocks[sizeClass].length);
+        }
+        freeBlocks[sizeClass][freeBlockCounts[sizeClass]++] = handle;
+    }
+
+    /**
+     * Returns the smallest size class whose blocks can hold {@code bytes}.
+     */
+    private static int sizeClassOf(int bytes) {
+        int blockBytes = Math.max(MIN_BLOCK_BYTES, bytes <= 1 ? 1 : Integer.highestOneBit(bytes - 1) << 1);
+        return Integer.numberOfTrailingZeros(blockBytes) - SIZE_CLASS_SHIFT;
+    }
+
+    private static long handle(int slabIndex, int offset) {
+        return ((long) slabIndex << Integer.SIZE) | offset;
+    }
+
+    private static int slabIndex(long handle) {
+        return (int) (handle >>> Integer.SIZE);
+    }
+
+    private static int offset(long handle) {
+        return (int) handle;
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
+
+/**
+ * Tests a predicate against every element of a list, on several threads of a fork/join pool when the list is large.
+ *
+ * The list is split into chunks, which are tested by fork/join tasks, and the positions of the elements that match
+ * are assembled, in list order, into a {@code BitSet}. Each chunk starts at a multiple of 64, so that the tasks write
+ * to different words of the result and need no locking. Lists smaller than the threshold are tested on the calling
+ * thread, since splitting them would cost more than it saves.
+ *
+ * While {@link #filter(List, Predicate)} runs, the list must not change, and the predicate must be safe to call from
+ * several threads at once.
+ */
+public class ParallelFilter {
+
+    /** The size of the smallest list split between threads by default. */
+    public static final int DEFAULT_THRESHOLD = 100_000;
+
+    /** The fewest elements tested by one task, so that each task does enough work to be worth forking. */
+    static final int MIN_CHUNK_SIZE = 4096;
+    /** The number of chunks for each thread, so that threads which finish early can take work from the others. */
+    private static final int CHUNKS_PER_THREAD = 4;
+    /**
+     * The pools for parallelisms other than the common pool's, shared by every filter with the same parallelism so
+     * that creating filters never leaks threads. Their worker threads are daemons and idle ones time out, so the
+     * pools need no shutting down.
+     */
+    private static final Map<Integer, ForkJoinPool> SHARED_POOLS = new ConcurrentHashMap<>();
+
+    private final int threshold;
+    private final int parallelism;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a filter that splits lists of at least {@code threshold} elements between {@code parallelism} threads.
+     * With a parallelism of zero or less, lists are split between the threads of the common fork/join pool, and with a
+     * parallelism of 1, lists are never split.
+     */
+    public ParallelFilter(int threshold, int parallelism) {
+        this.threshold = threshold;
+        if (parallelism <= 0 || parallelism == ForkJoinPool.getCommonPoolParallelism()) {
+            this.parallelism = ForkJoinPool.getCommonPoolParallelism();
+            pool = ForkJoinPool.commonPool();
+        } else {
+            this.parallelism = parallelism;
+            pool = parallelism == 1 ? null : SHARED_POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+        }
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the pool the lists are split in, or null if they are never split.
+     */
+    ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Returns true if a list of {@code size} elements is split between threads.
+     */
+    public boolean isParallel(int size) {
+        return size >= threshold && parallelism > 1 && size > MIN_CHUNK_SIZE;
+    }
+
+    /**
+     * Returns the positions of the elements of {@code list} that {@code predicate} accepts.
+     */
+    public <T> BitSet filter(List<? extends T> list, Predicate<? super T> predicate) {
+        requireNonNull(list);
+        requireNonNull(predicate);
+        long[] words = new long[(list.size() + Long.SIZE - 1) / Long.SIZE];
+        if (isParallel(list.size())) {
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, list.size() / (CHUNKS_PER_THREAD * parallelism));
+            pool.invoke(new FilterTask<T>(list, predicate, words, 0, list.size(), roundUpToWord(chunkSize)));
+        } else {
+            filter(list, predicate, words, 0, list.size());
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Sets the bits of {@code words} for the elements from {@code from} up to {@code to} that {@code predicate}
+     * accepts.
+     */
+    private static <T> void filter(List<? extends T> list, Predicate<? super T> predicate, long[] words,
+            int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (predicate.test(list.get(i))) {
+                words[i / Long.SIZE] |= 1L << i; // shifts only use the lowest six bits of i
+            }
+        }
+    }
+
+    private static int roundUpToWord(int size) {
+        return (size + Long.SIZE - 1) / Long.SIZE * Long.SIZE;
+    }
+
+    /**
+     * Tests the elements from {@code from} up to {@code to}, splitting them in two at a multiple of 64 until they are
+     * no more than a chunk.
+     */
+    private static class FilterTask<T> extends RecursiveAction {
+
+        private final List<? extends T> list;
+        private final Predicate<? super T> predicate;
+        private final long[] words;
+        private final int from;
+        private final int to;
+        private final int chunkSize;
+
+        FilterTask(List<? extends T> list, Predicate<? super T> predicate, long[] words, int from, int to,
+                int chunkSize) {
+            this.list = list;
+            this.predicate = predicate;
+            this.words = words;
+            this.from = from;
+            this.to = to;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                filter(list, predicate, words, from, to);
+                return;
+            }
+            int middle = from + roundUpToWord((to - from) / 2);
+            invokeAll(new FilterTask<T>(list, predicate, words, from, middle, chunkSize),
+                    new FilterTask<T>(list, predicate, words, middle, to, chunkSize));
+        }
+    }
+}
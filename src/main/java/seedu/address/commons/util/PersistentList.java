@@ -0,0 +1,252 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable, persistent list.
+ * Every "modifying" operation returns a new list and leaves this one untouched. The new list shares all but
+ * O(log n) of its internal nodes with the old one, so keeping many versions of a large list around costs memory
+ * proportional to the number of changes between them rather than to the size of the list.
+ *
+ * Internally this is an AVL tree ordered by position, where every node records the size of its subtree.
+ * {@code get}, {@code append}, {@code insert}, {@code replace} and {@code removeAt} all run in O(log n).
+ * The {@code java.util.List} mutators inherited from {@code AbstractList} are not supported.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a persistent list holding the elements of {@code elements}, in order.
+     * Runs in O(n).
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> copyOf(List<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList) {
+            return (PersistentList<E>) elements;
+        }
+        Object[] array = elements.toArray();
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    @Override
+    public int size() {
+        return Node.size(root);
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with {@code element} added to the end of this list.
+     */
+    public PersistentList<E> append(E element) {
+        return insert(size(), element);
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}, shifting later elements back by one.
+     */
+    public PersistentList<E> insert(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> replace(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed, shifting later elements forward by one.
+     */
+    public PersistentList<E> removeAt(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(removeAt(root, index));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> Node<E> build(Object[] array, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>((E) array[mid], build(array, from, mid), build(array, mid + 1, to));
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = Node.size(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, insert(node.left, index, element), node.right);
+        }
+        return balance(node.value, node.left, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, replace(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(element, node.left, node.right);
+    }
+
+    private static <E> Node<E> removeAt(Node<E> node, int index) {
+        int leftSize = Node.size(node.left);
+        if (index < leftSize) {
+            return balance(node.value, removeAt(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, removeAt(node.right, index - leftSize - 1));
+        }
+
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<E> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(successor.value, node.left, removeAt(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding {@code value} with the given subtrees, rotating as needed to restore the AVL
+     * invariant. The subtrees' heights must differ by at most 2.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        int leftHeight = Node.height(left);
+        int rightHeight = Node.height(right);
+        if (leftHeight > rightHeight + 1) {
+            if (Node.height(left.left) >= Node.height(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            return new Node<>(left.right.value,
+                    new Node<>(left.value, left.left, left.right.left),
+                    new Node<>(value, left.right.right, right));
+        }
+        if (rightHeight > leftHeight + 1) {
+            if (Node.height(right.right) >= Node.height(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            return new Node<>(right.left.value,
+                    new Node<>(value, left, right.left.left),
+                    new Node<>(right.value, right.left.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    /**
+     * An immutable tree node. Nodes are shared freely between versions of the list.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+    }
+
+    /**
+     * Walks the tree in order with an explicit stack, visiting each node once.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> stack = new ArrayDeque<>();
+
+        InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !stack.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (stack.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = stack.pop();
+            pushLeftSpine(node.right);
+            return node.value;
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                stack.push(current);
+            }
+        }
+    }
+}
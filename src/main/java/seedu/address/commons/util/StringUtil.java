@@ -38,6 +38,39 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code s} with every character replaced by the lower case form of its upper case form, so that two
+     * strings are equal ignoring case, as {@link String#equalsIgnoreCase(String)} compares them, if and only if their
+     * folded forms are equal. Returns {@code s} itself if no character changes.
+     *   <br>examples:<pre>
+     *       foldCase("ABc") == "abc"
+     *       foldCase("\u212A") == "k" // the Kelvin sign
+     *       </pre>
+     * @param s cannot be null
+     */
+    public static String foldCase(String s) {
+        requireNonNull(s);
+        int i = 0;
+        while (i < s.length() && foldCase(s.codePointAt(i)) == s.codePointAt(i)) {
+            i += Character.charCount(s.codePointAt(i));
+        }
+        if (i == s.length()) {
+            return s;
+        }
+
+        StringBuilder folded = new StringBuilder(s.length()).append(s, 0, i);
+        while (i < s.length()) {
+            int codePoint = s.codePointAt(i);
+            folded.appendCodePoint(foldCase(codePoint));
+            i += Character.charCount(codePoint);
+        }
+        return folded.toString();
+    }
+
+    private static int foldCase(int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
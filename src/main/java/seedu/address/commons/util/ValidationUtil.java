@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+/**
+ * Character classes for validating the fields of a person without regular expressions.
+ *
+ * Each method tests one {@code char} against a class of {@code java.util.regex.Pattern}, with the default flags, and
+ * gives the same answer as the pattern, so that a validator written as a loop over a string with these accepts exactly
+ * the strings that its regular expression matches, without compiling a pattern or allocating anything.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is matched by {@code \p{Alnum}}, or by {@code [^\W_]}: an ASCII letter or digit.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiLetter(c) || isAsciiDigit(c);
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code [a-zA-Z]}.
+     */
+    public static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \d}: an ASCII digit.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \w}: an ASCII letter or digit, or an underscore.
+     */
+    public static boolean isWordCharacter(char c) {
+        return isAsciiAlphanumeric(c) || c == '_';
+    }
+
+    /**
+     * Returns true if {@code c} is matched by {@code \s}: a space, tab, line feed, vertical tab, form feed or carriage
+     * return.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || (c >= '\t' && c <= '\r');
+    }
+
+    /**
+     * Returns true if {@code c} ends a line, and so is not matched by {@code .}.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
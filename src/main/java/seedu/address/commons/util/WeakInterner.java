@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * Hands out one canonical instance of an immutable value for each key, for as long as that instance is in use.
+ *
+ * Each entry is keyed by the key string held by its own value, so an entry is dropped once its value can no longer
+ * be reached from anywhere else, and the pool never keeps values alive by itself. Safe for use by several threads.
+ *
+ * @param <T> the type of the values, which must not change once created.
+ */
+public class WeakInterner<T> {
+
+    private final Map<String, WeakReference<T>> canonicalValues = new WeakHashMap<>();
+    private final Function<? super T, String> keyOf;
+
+    /**
+     * Creates an empty pool.
+     *
+     * @param keyOf returns the key string held by a value, which must be equal to the key the value was created for.
+     *     It must return the value's own field rather than a new string, or the entry would be dropped at once.
+     */
+    public WeakInterner(Function<? super T, String> keyOf) {
+        this.keyOf = requireNonNull(keyOf);
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, calling {@code factory} to create it if there is none in use.
+     * {@code factory} may throw to reject an invalid key, in which case nothing is added.
+     */
+    public T intern(String key, Function<String, ? extends T> factory) {
+        requireNonNull(key);
+        requireNonNull(factory);
+        synchronized (canonicalValues) {
+            WeakReference<T> reference = canonicalValues.get(key);
+            T value = reference == null ? null : reference.get();
+            if (value == null) {
+                value = factory.apply(key);
+                canonicalValues.put(keyOf.apply(value), new WeakReference<>(value));
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Returns the number of values in the pool, which may include values that are no longer in use but have not yet
+     * been collected.
+     */
+    public int size() {
+        synchronized (canonicalValues) {
+            return canonicalValues.size();
+        }
+    }
+}
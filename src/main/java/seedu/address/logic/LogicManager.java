@@ -2,15 +2,26 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Instant;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CommandExecuteEvent;
+import seedu.address.commons.jfr.CommandParseEvent;
+import seedu.address.logic.commandlog.CommandLog;
+import seedu.address.logic.commandlog.CommandLogEntry;
+import seedu.address.logic.commandlog.CommandLogEntry.Outcome;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CommandRegistry;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -27,25 +38,99 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandMetrics metrics;
+    private final CommandLog commandLog;
+    /** The number of changes made to the address book since this was created. */
+    private long modelVersion;
 
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, new CommandMetrics());
+    }
+
+    /**
+     * Creates a {@code LogicManager} that records how long each command takes in {@code metrics}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics metrics) {
+        this(model, storage, metrics, CommandLog.disabled());
+    }
+
+    /**
+     * Creates a {@code LogicManager} that records how long each command takes in {@code metrics},
+     * and every command run in {@code commandLog}.
+     */
+    public LogicManager(Model model, Storage storage, CommandMetrics metrics, CommandLog commandLog) {
         this.model = model;
         this.storage = storage;
+        this.metrics = metrics;
+        this.commandLog = commandLog;
         addressBookParser = new AddressBookParser();
+        addressBookParser.getCommandRegistry().register(StatsCommand.COMMAND_WORD,
+                CommandRegistry.ignoringArguments(new StatsCommand(metrics)));
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> modelVersion++);
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
 
+        Instant startTime = Instant.now();
+        long start = System.nanoTime();
+        Outcome outcome = Outcome.COMMAND_ERROR;
+        try {
+            CommandResult commandResult = parseAndExecute(commandText);
+            outcome = Outcome.SUCCESS;
+            return commandResult;
+        } catch (ParseException pe) {
+            outcome = Outcome.PARSE_ERROR;
+            throw pe;
+        } finally {
+            commandLog.append(new CommandLogEntry(startTime, commandText, System.nanoTime() - start, outcome,
+                    modelVersion));
+        }
+    }
+
+    /**
+     * Parses and executes {@code commandText}, then saves the address book, timing each phase.
+     */
+    private CommandResult parseAndExecute(String commandText) throws CommandException, ParseException {
+        CommandParseEvent parseEvent = new CommandParseEvent();
+        parseEvent.begin();
+        long parseStart = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            metrics.record(CommandMetrics.UNPARSED_COMMAND_TYPE, Phase.PARSE, System.nanoTime() - parseStart);
+            parseEvent.setCommandType(CommandMetrics.UNPARSED_COMMAND_TYPE);
+            parseEvent.commit();
+            throw pe;
+        }
+        String commandType = CommandMetrics.commandTypeOf(command);
+        long executeStart = System.nanoTime();
+        metrics.record(commandType, Phase.PARSE, executeStart - parseStart);
+        parseEvent.setCommandType(commandType);
+        parseEvent.setSucceeded(true);
+        parseEvent.commit();
+
+        CommandExecuteEvent executeEvent = new CommandExecuteEvent();
+        executeEvent.setCommandType(commandType);
+        executeEvent.begin();
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = command.execute(model);
+            executeEvent.setSucceeded(true);
+        } finally {
+            metrics.record(commandType, Phase.EXECUTE, System.nanoTime() - executeStart);
+            executeEvent.commit();
+        }
 
+        long persistStart = System.nanoTime();
         try {
             storage.saveAddressBook(model.getAddressBook());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        } finally {
+            metrics.record(commandType, Phase.PERSIST, System.nanoTime() - persistStart);
         }
 
         return commandResult;
@@ -0,0 +1,129 @@
+package seedu.address.logic.commandlog;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Records the commands run by the user, one JSON object per line, so that they can be replayed later
+ * (see {@link CommandLogReplayer}).
+ *
+ * A failure to write to the log is logged once, after which the log is turned off; the app carries on regardless.
+ */
+public class CommandLog implements Closeable {
+
+    private static final Logger logger = LogsCenter.getLogger(CommandLog.class);
+
+    private Writer writer;
+    private final List<CommandLogEntry> memory;
+
+    private CommandLog(Writer writer, List<CommandLogEntry> memory) {
+        this.writer = writer;
+        this.memory = memory;
+    }
+
+    /**
+     * Returns a log that records nothing.
+     */
+    public static CommandLog disabled() {
+        return new CommandLog(null, null);
+    }
+
+    /**
+     * Returns a log that adds entries to {@code entries} instead of writing them to a file.
+     */
+    public static CommandLog inMemory(List<CommandLogEntry> entries) {
+        requireNonNull(entries);
+        return new CommandLog(null, entries);
+    }
+
+    /**
+     * Returns a log that appends to the file at {@code filePath}, creating it if it is missing.
+     * @throws IOException if the file cannot be opened.
+     */
+    public static CommandLog open(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.getParent() != null) {
+            Files.createDirectories(filePath.getParent());
+        }
+        return new CommandLog(Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND), null);
+    }
+
+    /**
+     * Records {@code entry}.
+     */
+    public void append(CommandLogEntry entry) {
+        requireNonNull(entry);
+        if (memory != null) {
+            memory.add(entry);
+        }
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.write(JsonUtil.toCompactJsonString(entry));
+            writer.write('\n');
+            writer.flush();
+        } catch (IOException ioe) {
+            logger.warning("Could not write to the command log, which is now turned off: " + ioe);
+            close();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException ioe) {
+            logger.warning("Could not close the command log: " + ioe);
+        }
+        writer = null;
+    }
+
+    /**
+     * Returns the entries of the command log at {@code filePath}, in the order they were recorded.
+     * Blank lines are skipped.
+     * @throws IOException if the file cannot be read.
+     * @throws DataConversionException if a line is not a valid entry.
+     */
+    public static List<CommandLogEntry> read(Path filePath) throws IOException, DataConversionException {
+        requireNonNull(filePath);
+        List<CommandLogEntry> entries = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.trim().isEmpty()) {
+                    continue;
+                }
+                try {
+                    entries.add(JsonUtil.fromJsonString(line, CommandLogEntry.class));
+                } catch (IOException ioe) {
+                    throw new DataConversionException(new IOException(
+                            "Invalid entry on line " + lineNumber + " of " + filePath + ": " + line, ioe));
+                }
+            }
+        }
+        return entries;
+    }
+}
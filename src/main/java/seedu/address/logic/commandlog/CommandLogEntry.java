@@ -0,0 +1,102 @@
+package seedu.address.logic.commandlog;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * One command run by the user, as recorded in a {@code CommandLog}.
+ */
+public class CommandLogEntry {
+
+    /**
+     * How a command ended.
+     */
+    public enum Outcome {
+        SUCCESS, PARSE_ERROR, COMMAND_ERROR
+    }
+
+    private final String time;
+    private final String command;
+    private final long nanos;
+    private final Outcome outcome;
+    private final long version;
+
+    /**
+     * Creates an entry for {@code command}, which started at {@code time}, took {@code nanos} nanoseconds to run
+     * and left the model at {@code version}.
+     */
+    public CommandLogEntry(Instant time, String command, long nanos, Outcome outcome, long version) {
+        this(time.toString(), command, nanos, outcome, version);
+    }
+
+    @JsonCreator
+    private CommandLogEntry(@JsonProperty("time") String time, @JsonProperty("command") String command,
+            @JsonProperty("nanos") long nanos, @JsonProperty("outcome") Outcome outcome,
+            @JsonProperty("version") long version) {
+        requireAllNonNull(time, command, outcome);
+        Instant.parse(time); // rejects malformed times early
+        this.time = time;
+        this.command = command;
+        this.nanos = nanos;
+        this.outcome = outcome;
+        this.version = version;
+    }
+
+    public Instant getTime() {
+        return Instant.parse(time);
+    }
+
+    public String getCommand() {
+        return command;
+    }
+
+    /**
+     * Returns how long the command took to parse, execute and save, in nanoseconds.
+     */
+    public long getNanos() {
+        return nanos;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * Returns the number of changes made to the address book since the app started, including this command's.
+     * Two runs of the same commands from the same starting data end at the same versions.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof CommandLogEntry)) {
+            return false;
+        }
+        CommandLogEntry otherEntry = (CommandLogEntry) other;
+        return time.equals(otherEntry.time)
+                && command.equals(otherEntry.command)
+                && nanos == otherEntry.nanos
+                && outcome == otherEntry.outcome
+                && version == otherEntry.version;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(time, command, nanos, outcome, version);
+    }
+
+    @Override
+    public String toString() {
+        return time + " [" + command + "] " + outcome + " in " + nanos + "ns, version " + version;
+    }
+}
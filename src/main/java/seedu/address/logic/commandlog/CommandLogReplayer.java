@@ -0,0 +1,173 @@
+package seedu.address.logic.commandlog;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Runs the commands of a {@code CommandLog} again, without a GUI, against the address book they started from,
+ * and compares the new run with the recorded one.
+ *
+ * Every replayed command is saved to a scratch file, just as the app saves to its data file, so replays take
+ * about as long as the original commands did on the same machine.
+ */
+public class CommandLogReplayer {
+
+    private static final String USAGE = "Usage: CommandLogReplayer <command log> <starting address book>";
+
+    private final ReadOnlyAddressBook startingAddressBook;
+    private final Path scratchDirectory;
+
+    /**
+     * Creates a replayer that starts every replay from {@code startingAddressBook}, and saves to files in
+     * {@code scratchDirectory}.
+     */
+    public CommandLogReplayer(ReadOnlyAddressBook startingAddressBook, Path scratchDirectory) {
+        requireAllNonNull(startingAddressBook, scratchDirectory);
+        this.startingAddressBook = startingAddressBook;
+        this.scratchDirectory = scratchDirectory;
+    }
+
+    /**
+     * Replays {@code recordedEntries}, in order, on a fresh copy of the starting address book.
+     */
+    public ReplayResult replay(List<CommandLogEntry> recordedEntries) {
+        ModelManager model = new ModelManager(startingAddressBook, new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(scratchDirectory.resolve("replayAddressBook.json")),
+                new JsonUserPrefsStorage(scratchDirectory.resolve("replayUserPrefs.json")));
+        CommandMetrics metrics = new CommandMetrics();
+        List<CommandLogEntry> replayedEntries = new ArrayList<>();
+        LogicManager logic = new LogicManager(model, storage, metrics, CommandLog.inMemory(replayedEntries));
+
+        for (CommandLogEntry entry : recordedEntries) {
+            try {
+                logic.execute(entry.getCommand());
+            } catch (CommandException | ParseException e) {
+                // the outcome is compared with the recorded one afterwards
+            }
+        }
+        return new ReplayResult(recordedEntries, replayedEntries, metrics);
+    }
+
+    /**
+     * Replays the command log given as the first argument against the address book file given as the second,
+     * and prints a comparison of the recorded and replayed runs.
+     */
+    public static void main(String[] args) throws IOException, DataConversionException {
+        if (args.length != 2) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        List<CommandLogEntry> entries = CommandLog.read(Paths.get(args[0]));
+        Optional<ReadOnlyAddressBook> startingAddressBook =
+                new JsonAddressBookStorage(Paths.get(args[1])).readAddressBook();
+        if (!startingAddressBook.isPresent()) {
+            System.err.println("Starting address book not found: " + args[1]);
+            System.exit(1);
+        }
+
+        Path scratchDirectory = Files.createTempDirectory("replay");
+        try {
+            ReplayResult result = new CommandLogReplayer(startingAddressBook.get(), scratchDirectory).replay(entries);
+            System.out.println(result.format());
+        } finally {
+            Files.deleteIfExists(scratchDirectory.resolve("replayAddressBook.json"));
+            Files.deleteIfExists(scratchDirectory);
+        }
+    }
+
+    /**
+     * A recorded run of commands and its replay.
+     */
+    public static class ReplayResult {
+
+        /** The number of divergences listed by {@link #format()}. */
+        private static final int MAX_DIVERGENCES_SHOWN = 10;
+
+        private final List<CommandLogEntry> recordedEntries;
+        private final List<CommandLogEntry> replayedEntries;
+        private final CommandMetrics metrics;
+
+        ReplayResult(List<CommandLogEntry> recordedEntries, List<CommandLogEntry> replayedEntries,
+                CommandMetrics metrics) {
+            this.recordedEntries = recordedEntries;
+            this.replayedEntries = replayedEntries;
+            this.metrics = metrics;
+        }
+
+        public List<CommandLogEntry> getReplayedEntries() {
+            return replayedEntries;
+        }
+
+        /**
+         * Returns the positions, counting from 0, of the commands whose outcome or resulting model version differ
+         * between the recorded run and the replay.
+         */
+        public List<Integer> getDivergentIndexes() {
+            List<Integer> divergentIndexes = new ArrayList<>();
+            for (int i = 0; i < recordedEntries.size(); i++) {
+                CommandLogEntry recorded = recordedEntries.get(i);
+                CommandLogEntry replayed = replayedEntries.get(i);
+                if (recorded.getOutcome() != replayed.getOutcome() || recorded.getVersion() != replayed.getVersion()) {
+                    divergentIndexes.add(i);
+                }
+            }
+            return divergentIndexes;
+        }
+
+        /**
+         * Returns a report comparing the recorded run with the replay, for people to read.
+         */
+        public String format() {
+            StringBuilder report = new StringBuilder();
+            report.append(String.format(Locale.ROOT, "Replayed %d commands in %.1f ms (recorded: %.1f ms)",
+                    replayedEntries.size(), toMillis(totalNanos(replayedEntries)),
+                    toMillis(totalNanos(recordedEntries))));
+
+            List<Integer> divergentIndexes = getDivergentIndexes();
+            if (divergentIndexes.isEmpty()) {
+                report.append("\nEvery command had the same outcome and left the same model version.");
+            } else {
+                report.append("\n").append(divergentIndexes.size()).append(" commands diverged from the recording:");
+                for (int i : divergentIndexes.subList(0, Math.min(MAX_DIVERGENCES_SHOWN, divergentIndexes.size()))) {
+                    report.append("\n    #").append(i + 1).append(" recorded: ").append(recordedEntries.get(i))
+                            .append("\n    #").append(i + 1).append(" replayed: ").append(replayedEntries.get(i));
+                }
+            }
+            return report.append("\n").append(metrics.format()).toString();
+        }
+
+        private static long totalNanos(List<CommandLogEntry> entries) {
+            long total = 0;
+            for (CommandLogEntry entry : entries) {
+                total += entry.getNanos();
+            }
+            return total;
+        }
+
+        private static double toMillis(long nanos) {
+            return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Shows an estimate of the memory taken by the address book data, broken down by component.
+ */
+public class MemoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "memory";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows an estimate of the memory taken by persons, strings, tag sets, person lists and undo history.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(model.estimateFootprint().format());
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows how many commands of each type have been run and how long they took.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the number of runs, runs per second and parse, execute and save latencies of each command.\n"
+            + "Example: " + COMMAND_WORD;
+
+    private final CommandMetrics metrics;
+
+    public StatsCommand(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        return new CommandResult(metrics.format());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && metrics == ((StatsCommand) other).metrics);
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.logic.loadtest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.StringJoiner;
+
+/**
+ * The relative weights with which a load test picks each kind of command, e.g. {@code add=10,find=40,list=50}.
+ */
+public class CommandMix {
+
+    /**
+     * The kinds of commands a load test runs.
+     */
+    public enum Kind {
+        ADD, EDIT, DELETE, FIND, LIST
+    }
+
+    public static final String DEFAULT_MIX = "add=10,edit=10,delete=10,find=40,list=30";
+
+    public static final String MESSAGE_CONSTRAINTS = "A command mix is a comma-separated list of KIND=WEIGHT pairs, "
+            + "where KIND is one of add, edit, delete, find and list, and WEIGHT is a non-negative whole number. "
+            + "At least one weight must be positive.";
+
+    private final Map<Kind, Integer> weights;
+    private final int totalWeight;
+
+    private CommandMix(Map<Kind, Integer> weights) {
+        this.weights = weights;
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Parses a mix such as {@code add=10,find=40,list=50}. Kinds that are left out are never picked.
+     * @throws IllegalArgumentException if {@code mix} does not follow {@link #MESSAGE_CONSTRAINTS}.
+     */
+    public static CommandMix parse(String mix) {
+        requireNonNull(mix);
+        Map<Kind, Integer> weights = new EnumMap<>(Kind.class);
+        for (String pair : mix.split(",")) {
+            String[] kindAndWeight = pair.trim().split("=", 2);
+            if (kindAndWeight.length != 2) {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+            }
+            Kind kind;
+            int weight;
+            try {
+                kind = Kind.valueOf(kindAndWeight[0].trim().toUpperCase(Locale.ROOT));
+                weight = Integer.parseInt(kindAndWeight[1].trim());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS, e);
+            }
+            if (weight < 0 || weights.put(kind, weight) != null) {
+                throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+            }
+        }
+        CommandMix commandMix = new CommandMix(weights);
+        if (commandMix.totalWeight <= 0) {
+            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
+        }
+        return commandMix;
+    }
+
+    public int getWeight(Kind kind) {
+        return weights.getOrDefault(kind, 0);
+    }
+
+    /**
+     * Returns a kind of command, picked with a probability proportional to its weight.
+     */
+    public Kind pick(Random random) {
+        int target = random.nextInt(totalWeight);
+        for (Map.Entry<Kind, Integer> entry : weights.entrySet()) {
+            target -= entry.getValue();
+            if (target < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new AssertionError("The weights add up to " + totalWeight);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CommandMix // instanceof handles nulls
+                && weights.equals(((CommandMix) other).weights));
+    }
+
+    @Override
+    public int hashCode() {
+        return weights.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(",");
+        weights.forEach((kind, weight) -> joiner.add(kind.name().toLowerCase(Locale.ROOT) + "=" + weight));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,233 @@
+package seedu.address.logic.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.loadtest.CommandMix.Kind;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.LatencyHistogram;
+
+/**
+ * The results of a load test: response times for each kind of command, throughput, heap growth and time spent in
+ * garbage collection, overall and for each window of the run.
+ *
+ * Response times are measured from the moment each command was scheduled to start, not from when it did start,
+ * so time a command spends waiting behind slower ones is counted (see {@link LoadTestRunner}).
+ */
+public class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final int startingPersonCount;
+    private final CommandMix mix;
+    private final double targetCommandsPerSecond;
+    private final CommandMetrics serviceTimes;
+    private final Map<Kind, LatencyHistogram> responseTimes = new EnumMap<>(Kind.class);
+    private final Map<Kind, Long> failureCounts = new EnumMap<>(Kind.class);
+    private final List<Window> windows = new ArrayList<>();
+    private LatencyHistogram windowResponseTimes = new LatencyHistogram();
+    private JvmSample startSample;
+    private JvmSample endSample;
+    private long elapsedNanos;
+    private int endingPersonCount;
+
+    LoadTestReport(int startingPersonCount, CommandMix mix, double targetCommandsPerSecond,
+            CommandMetrics serviceTimes) {
+        this.startingPersonCount = startingPersonCount;
+        this.mix = mix;
+        this.targetCommandsPerSecond = targetCommandsPerSecond;
+        this.serviceTimes = serviceTimes;
+        for (Kind kind : Kind.values()) {
+            responseTimes.put(kind, new LatencyHistogram());
+            failureCounts.put(kind, 0L);
+        }
+    }
+
+    void start(JvmSample sample) {
+        startSample = sample;
+    }
+
+    void recordCommand(Kind kind, long responseNanos, boolean isSuccessful) {
+        responseTimes.get(kind).record(responseNanos);
+        windowResponseTimes.record(responseNanos);
+        if (!isSuccessful) {
+            failureCounts.merge(kind, 1L, Long::sum);
+        }
+    }
+
+    void endWindow(long elapsedNanos, int personCount, JvmSample sample) {
+        windows.add(new Window(elapsedNanos, personCount, windowResponseTimes, sample));
+        windowResponseTimes = new LatencyHistogram();
+    }
+
+    void finish(long elapsedNanos, int personCount, JvmSample sample) {
+        this.elapsedNanos = elapsedNanos;
+        this.endingPersonCount = personCount;
+        this.endSample = sample;
+    }
+
+    /**
+     * Returns the response times recorded for commands of the given kind.
+     */
+    public LatencyHistogram getResponseTimes(Kind kind) {
+        return responseTimes.get(kind).copy();
+    }
+
+    public long getFailureCount(Kind kind) {
+        return failureCounts.get(kind);
+    }
+
+    /**
+     * Returns the number of commands run, of every kind.
+     */
+    public long getCommandCount() {
+        return responseTimes.values().stream().mapToLong(LatencyHistogram::getCount).sum();
+    }
+
+    /**
+     * Returns the number of commands run per second, on average.
+     */
+    public double getThroughput() {
+        return getCommandCount() / toSeconds(Math.max(1, elapsedNanos));
+    }
+
+    public List<Window> getWindows() {
+        return Collections.unmodifiableList(windows);
+    }
+
+    /**
+     * Returns the report for people to read.
+     */
+    public String format() {
+        StringBuilder report = new StringBuilder();
+        report.append(String.format(Locale.ROOT, "Load test of %.1f minutes on %d persons, mix %s",
+                toSeconds(elapsedNanos) / 60, startingPersonCount, mix));
+        report.append(String.format(Locale.ROOT, "\nThroughput: %.1f commands per second (target %.1f), "
+                + "%d commands, %d persons at the end",
+                getThroughput(), targetCommandsPerSecond, getCommandCount(), endingPersonCount));
+        report.append(String.format(Locale.ROOT, "\nHeap after full GC: %.1f MB at the start, %.1f MB at the end "
+                + "(%+.1f MB)", toMegabytes(startSample.heapUsedBytes), toMegabytes(endSample.heapUsedBytes),
+                toMegabytes(endSample.heapUsedBytes - startSample.heapUsedBytes)));
+        long gcMillis = endSample.gcMillis - startSample.gcMillis;
+        report.append(String.format(Locale.ROOT, "\nGC: %d collections, %d ms (%.2f%% of the run)",
+                endSample.gcCount - startSample.gcCount, gcMillis,
+                100.0 * TimeUnit.MILLISECONDS.toNanos(gcMillis) / Math.max(1, elapsedNanos)));
+
+        report.append("\n\nResponse times from scheduled start (ms):");
+        for (Kind kind : Kind.values()) {
+            LatencyHistogram histogram = responseTimes.get(kind);
+            if (histogram.getCount() == 0) {
+                continue;
+            }
+            report.append(String.format(Locale.ROOT, "\n%-8s %7d runs, %d failed,",
+                    kind.name().toLowerCase(Locale.ROOT), histogram.getCount(), failureCounts.get(kind)));
+            for (double percentile : PERCENTILES) {
+                report.append(String.format(Locale.ROOT, " p%s %s,",
+                        formatPercentile(percentile), toMillis(histogram.getValueAtPercentile(percentile))));
+            }
+            report.append(" max ").append(toMillis(histogram.getMax()));
+        }
+
+        report.append("\n\nBy window (ms):");
+        for (Window window : windows) {
+            report.append("\n").append(window.format());
+        }
+        if (windows.size() > 1) {
+            long firstP99 = Math.max(1, windows.get(0).responseTimes.getValueAtPercentile(99));
+            long lastP99 = windows.get(windows.size() - 1).responseTimes.getValueAtPercentile(99);
+            report.append(String.format(Locale.ROOT, "\np99 of the last window is %.2f times that of the first",
+                    lastP99 / (double) firstP99));
+        }
+
+        return report.append("\n\nService times, excluding any wait for earlier commands:\n")
+                .append(serviceTimes.format()).toString();
+    }
+
+    private static String formatPercentile(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+
+    private static double toSeconds(long nanos) {
+        return nanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    private static double toMegabytes(long bytes) {
+        return bytes / (1024.0 * 1024.0);
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+
+    /**
+     * The commands run during one stretch of a load test, and the state of the JVM at its end.
+     */
+    public static class Window {
+
+        private final long elapsedNanos;
+        private final int personCount;
+        private final LatencyHistogram responseTimes;
+        private final JvmSample sample;
+
+        Window(long elapsedNanos, int personCount, LatencyHistogram responseTimes, JvmSample sample) {
+            this.elapsedNanos = elapsedNanos;
+            this.personCount = personCount;
+            this.responseTimes = responseTimes;
+            this.sample = sample;
+        }
+
+        public long getCommandCount() {
+            return responseTimes.getCount();
+        }
+
+        public int getPersonCount() {
+            return personCount;
+        }
+
+        String format() {
+            return String.format(Locale.ROOT, "%8.1f s: %7d commands, p50 %s, p99 %s, max %s, %d persons, "
+                    + "heap %.1f MB, %d GCs taking %d ms so far", toSeconds(elapsedNanos), responseTimes.getCount(),
+                    toMillis(responseTimes.getValueAtPercentile(50)), toMillis(responseTimes.getValueAtPercentile(99)),
+                    toMillis(responseTimes.getMax()), personCount, toMegabytes(sample.heapUsedBytes),
+                    sample.gcCount, sample.gcMillis);
+        }
+    }
+
+    /**
+     * The heap in use and the collections done by the garbage collectors at some moment.
+     */
+    static class JvmSample {
+
+        private final long heapUsedBytes;
+        private final long gcCount;
+        private final long gcMillis;
+
+        private JvmSample(long heapUsedBytes, long gcCount, long gcMillis) {
+            this.heapUsedBytes = heapUsedBytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        /**
+         * Returns the current state of the heap and the garbage collectors.
+         * Collectors that do not report their counts or times are left out.
+         */
+        static JvmSample take() {
+            long gcCount = 0;
+            long gcMillis = 0;
+            for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+                gcCount += Math.max(0, collector.getCollectionCount());
+                gcMillis += Math.max(0, collector.getCollectionTime());
+            }
+            return new JvmSample(ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(),
+                    gcCount, gcMillis);
+        }
+    }
+}
@@ -0,0 +1,242 @@
+package seedu.address.logic.loadtest;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.loadtest.CommandMix.Kind;
+import seedu.address.logic.loadtest.LoadTestReport.JvmSample;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Runs a mix of commands through a {@code LogicManager}, at a steady rate, against a generated address book, and
+ * reports how long they took and how the JVM coped. Every command is saved to a scratch file, as in the app.
+ *
+ * Commands are scheduled at fixed intervals whether or not the previous command has finished, as they would be if
+ * they came from users. When commands take longer than the interval, the runner falls behind and runs the waiting
+ * commands back to back; their response times include the wait.
+ *
+ * Edits and deletes pick a random person in the filtered list, and finds search for the first name of a random
+ * person in the address book. When there is no one to pick, a list command is run instead.
+ */
+public class LoadTestRunner {
+
+    private static final Logger logger = LogsCenter.getLogger(LoadTestRunner.class);
+
+    private static final String USAGE = "Usage: LoadTestRunner <persons> <commands per second> <minutes> "
+            + "<command mix> <report file>";
+    private static final long SEED = 1;
+    private static final Duration DEFAULT_WINDOW_LENGTH = Duration.ofMinutes(1);
+
+    private final int personCount;
+    private final CommandMix mix;
+    private final double commandsPerSecond;
+    private final Duration duration;
+    private final Duration windowLength;
+    private final Path scratchDirectory;
+
+    /**
+     * Creates a runner that runs commands picked from {@code mix}, {@code commandsPerSecond} times a second, for
+     * {@code duration}, against {@code personCount} generated persons, and saves to files in
+     * {@code scratchDirectory}. The state of the run is reported every {@code windowLength}.
+     */
+    public LoadTestRunner(int personCount, CommandMix mix, double commandsPerSecond, Duration duration,
+            Duration windowLength, Path scratchDirectory) {
+        requireAllNonNull(mix, duration, windowLength, scratchDirectory);
+        if (personCount < 0 || commandsPerSecond <= 0 || duration.isNegative() || windowLength.isZero()
+                || windowLength.isNegative()) {
+            throw new IllegalArgumentException("Invalid load test settings");
+        }
+        this.personCount = personCount;
+        this.mix = mix;
+        this.commandsPerSecond = commandsPerSecond;
+        this.duration = duration;
+        this.windowLength = windowLength;
+        this.scratchDirectory = scratchDirectory;
+    }
+
+    /**
+     * Runs the load test and returns its report.
+     */
+    public LoadTestReport run() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generator.generatePersons(personCount));
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(scratchDirectory.resolve("loadTestAddressBook.json")),
+                new JsonUserPrefsStorage(scratchDirectory.resolve("loadTestUserPrefs.json")));
+        CommandMetrics serviceTimes = new CommandMetrics();
+        Logic logic = new LogicManager(new ModelManager(addressBook, new UserPrefs()), storage, serviceTimes);
+        CommandSource commands = new CommandSource(logic, generator, personCount);
+        Random random = new Random(SEED);
+
+        LoadTestReport report = new LoadTestReport(personCount, mix, commandsPerSecond, serviceTimes);
+        System.gc();
+        report.start(JvmSample.take());
+
+        long intervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / commandsPerSecond));
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+        long windowEndNanos = startNanos + windowLength.toNanos();
+        for (long scheduledNanos = startNanos; scheduledNanos < endNanos; scheduledNanos += intervalNanos) {
+            waitUntil(scheduledNanos);
+            Kind kind = mix.pick(random);
+            String commandText = commands.next(kind, random);
+            if (commandText.equals(ListCommand.COMMAND_WORD)) {
+                kind = Kind.LIST;
+            }
+
+            boolean isSuccessful = true;
+            try {
+                logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                isSuccessful = false;
+                logger.warning(() -> "Load test command failed: " + commandText + " (" + e.getMessage() + ")");
+            }
+            long nowNanos = System.nanoTime();
+            report.recordCommand(kind, nowNanos - scheduledNanos, isSuccessful);
+
+            if (nowNanos >= windowEndNanos) {
+                endWindow(report, nowNanos - startNanos, logic);
+                windowEndNanos += windowLength.toNanos();
+            }
+        }
+        endWindow(report, System.nanoTime() - startNanos, logic);
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        System.gc();
+        report.finish(elapsedNanos, logic.getAddressBook().getPersonList().size(), JvmSample.take());
+        return report;
+    }
+
+    private static void endWindow(LoadTestReport report, long elapsedNanos, Logic logic) {
+        report.endWindow(elapsedNanos, logic.getAddressBook().getPersonList().size(), JvmSample.take());
+        List<LoadTestReport.Window> windows = report.getWindows();
+        logger.info(() -> windows.get(windows.size() - 1).format());
+    }
+
+    private static void waitUntil(long deadlineNanos) {
+        long remainingNanos;
+        while ((remainingNanos = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remainingNanos);
+        }
+    }
+
+    /**
+     * Runs a load test with the settings given as arguments (see {@link #USAGE}) and writes its report to a file.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 5) {
+            System.err.println(USAGE);
+            System.exit(2);
+        }
+        CommandMix mix = CommandMix.parse(args[3]);
+        Duration duration = Duration.ofMillis((long) (Double.parseDouble(args[2]) * TimeUnit.MINUTES.toMillis(1)));
+        Path reportFile = Paths.get(args[4]);
+
+        Path scratchDirectory = Files.createTempDirectory("loadtest");
+        try {
+            LoadTestReport report = new LoadTestRunner(Integer.parseInt(args[0]), mix,
+                    Double.parseDouble(args[1]), duration, DEFAULT_WINDOW_LENGTH, scratchDirectory).run();
+            FileUtil.createIfMissing(reportFile);
+            FileUtil.writeToFile(reportFile, report.format());
+            System.out.println(report.format());
+        } finally {
+            Files.deleteIfExists(scratchDirectory.resolve("loadTestAddressBook.json"));
+            Files.deleteIfExists(scratchDirectory);
+        }
+    }
+
+    /**
+     * Creates the text of commands of each kind, based on the current state of the address book.
+     */
+    private static class CommandSource {
+
+        private final Logic logic;
+        private final SyntheticDataGenerator generator;
+        private int nextNewPersonIndex;
+
+        CommandSource(Logic logic, SyntheticDataGenerator generator, int personCount) {
+            this.logic = logic;
+            this.generator = generator;
+            this.nextNewPersonIndex = personCount;
+        }
+
+        /**
+         * Returns the text of a command of the given kind, or of a list command if there is no person to act on.
+         */
+        String next(Kind kind, Random random) {
+            int filteredCount = logic.getFilteredPersonList().size();
+            List<Person> persons = logic.getAddressBook().getPersonList();
+            switch (kind) {
+            case ADD:
+                return toAddCommand(generator.getPerson(nextNewPersonIndex++));
+            case EDIT:
+                if (filteredCount == 0) {
+                    return ListCommand.COMMAND_WORD;
+                }
+                // generated addresses never make the edited person the same as another
+                return EditCommand.COMMAND_WORD + " " + (1 + random.nextInt(filteredCount)) + " " + PREFIX_ADDRESS
+                        + generator.getPerson(random.nextInt(Integer.MAX_VALUE)).getAddress();
+            case DELETE:
+                if (filteredCount == 0) {
+                    return ListCommand.COMMAND_WORD;
+                }
+                return DeleteCommand.COMMAND_WORD + " " + (1 + random.nextInt(filteredCount));
+            case FIND:
+                if (persons.isEmpty()) {
+                    return ListCommand.COMMAND_WORD;
+                }
+                String name = persons.get(random.nextInt(persons.size())).getName().fullName;
+                return FindCommand.COMMAND_WORD + " " + name.split(" ")[0];
+            case LIST:
+                return ListCommand.COMMAND_WORD;
+            default:
+                throw new AssertionError("Unknown command kind: " + kind);
+            }
+        }
+
+        private static String toAddCommand(Person person) {
+            StringBuilder command = new StringBuilder(AddCommand.COMMAND_WORD)
+                    .append(" ").append(PREFIX_NAME).append(person.getName().fullName)
+                    .append(" ").append(PREFIX_PHONE).append(person.getPhone())
+                    .append(" ").append(PREFIX_EMAIL).append(person.getEmail())
+                    .append(" ").append(PREFIX_ADDRESS).append(person.getAddress());
+            person.getTags().forEach(tag -> command.append(" ").append(PREFIX_TAG).append(tag.tagName));
+            return command.toString();
+        }
+    }
+}
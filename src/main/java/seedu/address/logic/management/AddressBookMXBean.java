@@ -0,0 +1,45 @@
+package seedu.address.logic.management;
+
+import java.util.Map;
+
+/**
+ * The management interface through which tools such as {@code jconsole} monitor a running address book.
+ */
+public interface AddressBookMXBean {
+
+    int getPersonCount();
+
+    /** Returns the number of distinct tags on all persons. */
+    int getTagCount();
+
+    int getFilteredPersonCount();
+
+    long getUndoHistoryBytesInMemory();
+
+    int getSpilledUndoHistoryEntryCount();
+
+    String getAddressBookFilePath();
+
+    long getSaveCount();
+
+    long getFailedSaveCount();
+
+    double getLastSaveDurationMillis();
+
+    long getLastSaveBytes();
+
+    /** Returns true if the last save failed, so that changes in memory are not yet on disk. */
+    boolean isDirty();
+
+    /** Returns the number of runs of each type of command. */
+    Map<String, Long> getCommandCounts();
+
+    /** Returns the average number of runs per second of each type of command. */
+    Map<String, Double> getCommandRates();
+
+    /** Saves the address book now. */
+    void save();
+
+    /** Frees memory by moving all of the undo history but the most recent entry to disk. */
+    void compactUndoHistory();
+}
@@ -0,0 +1,234 @@
+package seedu.address.logic.management;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.logging.Logger;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.InstanceNotFoundException;
+import javax.management.MBeanRegistrationException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.NotCompliantMBeanException;
+import javax.management.ObjectName;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.SaveStatistics;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Exposes the state of the model, storage and command metrics of a running address book through JMX.
+ *
+ * JMX calls arrive on their own threads, but the model may only be used from the thread that runs commands.
+ * The counts of persons and tags are read from the address book's snapshot on the calling thread, so that frequent
+ * polling does not hold up commands. Every other call that reads or changes the model is handed to
+ * {@code appThreadExecutor} and waited for.
+ */
+public class AddressBookMonitor implements AddressBookMXBean {
+
+    public static final String OBJECT_NAME = "seedu.address:type=AddressBook";
+
+    private static final long APP_THREAD_TIMEOUT_SECONDS = 10;
+    private static final Logger logger = LogsCenter.getLogger(AddressBookMonitor.class);
+
+    private final ModelManager model;
+    private final StorageManager storage;
+    private final CommandMetrics metrics;
+    private final Executor appThreadExecutor;
+    /** The tag count of the latest snapshot counted, so that polling an unchanged address book does not recount. */
+    private volatile TagCount lastTagCount;
+
+    /**
+     * Creates a monitor of {@code model}, {@code storage} and {@code metrics}.
+     * @param appThreadExecutor runs tasks on the thread that runs commands.
+     */
+    public AddressBookMonitor(ModelManager model, StorageManager storage, CommandMetrics metrics,
+            Executor appThreadExecutor) {
+        requireAllNonNull(model, storage, metrics, appThreadExecutor);
+        this.model = model;
+        this.storage = storage;
+        this.metrics = metrics;
+        this.appThreadExecutor = appThreadExecutor;
+    }
+
+    /**
+     * Registers this with {@code server} under {@link #OBJECT_NAME}.
+     * Failures are logged rather than thrown, since the app works just as well without monitoring.
+     */
+    public void register(MBeanServer server) {
+        try {
+            server.registerMBean(this, new ObjectName(OBJECT_NAME));
+        } catch (InstanceAlreadyExistsException | MBeanRegistrationException | NotCompliantMBeanException
+                | MalformedObjectNameException e) {
+            logger.warning("Failed to register management bean : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Removes this from {@code server}, if it is registered there.
+     */
+    public void unregister(MBeanServer server) {
+        try {
+            server.unregisterMBean(new ObjectName(OBJECT_NAME));
+        } catch (InstanceNotFoundException | MBeanRegistrationException | MalformedObjectNameException e) {
+            logger.fine("Management bean was not registered : " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Override
+    public int getPersonCount() {
+        return model.getAddressBookSnapshot().getPersonList().size();
+    }
+
+    @Override
+    public int getTagCount() {
+        AddressBookSnapshot snapshot = model.getAddressBookSnapshot();
+        TagCount tagCount = lastTagCount;
+        if (tagCount == null || tagCount.version != snapshot.getVersion()) {
+            Set<Tag> tags = new HashSet<>();
+            for (Person person : snapshot.getPersonList()) {
+                tags.addAll(person.getTags());
+            }
+            tagCount = new TagCount(snapshot.getVersion(), tags.size());
+            lastTagCount = tagCount;
+        }
+        return tagCount.count;
+    }
+
+    @Override
+    public int getFilteredPersonCount() {
+        return callOnAppThread(() -> model.getFilteredPersonList().size());
+    }
+
+    @Override
+    public long getUndoHistoryBytesInMemory() {
+        return callOnAppThread(model::getUndoHistoryBytesInMemory);
+    }
+
+    @Override
+    public int getSpilledUndoHistoryEntryCount() {
+        return callOnAppThread(model::getSpilledUndoHistoryEntryCount);
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return storage.getAddressBookFilePath().toString();
+    }
+
+    @Override
+    public long getSaveCount() {
+        return storage.getSaveStatistics().getSaveCount();
+    }
+
+    @Override
+    public long getFailedSaveCount() {
+        return storage.getSaveStatistics().getFailedSaveCount();
+    }
+
+    @Override
+    public double getLastSaveDurationMillis() {
+        return storage.getSaveStatistics().getLastSaveNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public long getLastSaveBytes() {
+        return storage.getSaveStatistics().getLastSaveBytes();
+    }
+
+    @Override
+    public boolean isDirty() {
+        return storage.getSaveStatistics().isDirty();
+    }
+
+    @Override
+    public Map<String, Long> getCommandCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String commandType : metrics.getCommandTypes()) {
+            counts.put(commandType, metrics.getCount(commandType));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Double> getCommandRates() {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String commandType : metrics.getCommandTypes()) {
+            rates.put(commandType, metrics.getThroughput(commandType));
+        }
+        return rates;
+    }
+
+    @Override
+    public void save() {
+        callOnAppThread(() -> {
+            try {
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (IOException ioe) {
+                throw new IllegalStateException("Could not save data to file: " + ioe, ioe);
+            }
+            logger.info("Saved address book on request through JMX");
+            return null;
+        });
+    }
+
+    @Override
+    public void compactUndoHistory() {
+        callOnAppThread(() -> {
+            long before = model.getUndoHistoryBytesInMemory();
+            model.compactUndoHistory();
+            logger.info("Compacted undo history on request through JMX, freeing about "
+                    + (before - model.getUndoHistoryBytesInMemory()) + " bytes");
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code task} on the app thread and returns its result.
+     * @throws IllegalStateException if the task fails or the app thread does not run it in time.
+     */
+    private <T> T callOnAppThread(Callable<T> task) {
+        FutureTask<T> futureTask = new FutureTask<>(task);
+        appThreadExecutor.execute(futureTask);
+        try {
+            return futureTask.get(APP_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException(ee.getCause().getMessage(), ee.getCause());
+        } catch (TimeoutException te) {
+            futureTask.cancel(false);
+            throw new IllegalStateException("The app is busy; try again later", te);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the app", ie);
+        }
+    }
+
+    /**
+     * The number of distinct tags in the snapshot of an address book at some version.
+     */
+    private static class TagCount {
+        private final long version;
+        private final int count;
+
+        TagCount(long version, int count) {
+            this.version = version;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Times the phases of every command run, separately for each type of command.
+ * Memory use depends only on the number of command types, not on the number of commands run.
+ *
+ * All methods are thread-safe.
+ */
+public class CommandMetrics {
+
+    /** The command type under which inputs that could not be parsed into a command are recorded. */
+    public static final String UNPARSED_COMMAND_TYPE = "(unparsed)";
+
+    public static final String MESSAGE_NO_COMMANDS = "No commands have been run yet.";
+
+    /**
+     * The phases of running a command.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, PERSIST
+    }
+
+    private final Map<String, Map<Phase, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private final LongSupplier nanoClock;
+    private final long startNanos;
+
+    public CommandMetrics() {
+        this(System::nanoTime);
+    }
+
+    CommandMetrics(LongSupplier nanoClock) {
+        this.nanoClock = nanoClock;
+        this.startNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Returns the type under which runs of {@code command} are recorded.
+     */
+    public static String commandTypeOf(Command command) {
+        return command.getClass().getSimpleName();
+    }
+
+    /**
+     * Records that the {@code phase} of a command of type {@code commandType} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandType, Phase phase, long nanos) {
+        requireNonNull(commandType);
+        requireNonNull(phase);
+        histograms.computeIfAbsent(commandType, type -> createHistograms()).get(phase).record(nanos);
+    }
+
+    private static Map<Phase, LatencyHistogram> createHistograms() {
+        Map<Phase, LatencyHistogram> phaseHistograms = new EnumMap<>(Phase.class);
+        for (Phase phase : Phase.values()) {
+            phaseHistograms.put(phase, new LatencyHistogram());
+        }
+        return Collections.unmodifiableMap(phaseHistograms);
+    }
+
+    /**
+     * Returns every command type recorded so far, in alphabetical order.
+     */
+    public List<String> getCommandTypes() {
+        List<String> commandTypes = new ArrayList<>(histograms.keySet());
+        Collections.sort(commandTypes);
+        return commandTypes;
+    }
+
+    /**
+     * Returns a copy of the durations recorded for the {@code phase} of commands of type {@code commandType}.
+     * The copy is empty if no such command has been run.
+     */
+    public LatencyHistogram getHistogram(String commandType, Phase phase) {
+        Map<Phase, LatencyHistogram> phaseHistograms = histograms.get(commandType);
+        return phaseHistograms == null ? new LatencyHistogram() : phaseHistograms.get(phase).copy();
+    }
+
+    /**
+     * Returns the number of commands of type {@code commandType} run so far.
+     * Every run is parsed, so this is the number of parse phases recorded.
+     */
+    public long getCount(String commandType) {
+        return getHistogram(commandType, Phase.PARSE).getCount();
+    }
+
+    /**
+     * Returns the average number of commands of type {@code commandType} run per second since this was created.
+     */
+    public double getThroughput(String commandType) {
+        return getCount(commandType) / getUptimeSeconds();
+    }
+
+    private double getUptimeSeconds() {
+        long uptimeNanos = Math.max(1, nanoClock.getAsLong() - startNanos);
+        return uptimeNanos / (double) TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * Returns a report of the counts, throughput and latencies of every command type, for people to read.
+     */
+    public String format() {
+        List<String> commandTypes = getCommandTypes();
+        if (commandTypes.isEmpty()) {
+            return MESSAGE_NO_COMMANDS;
+        }
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "Command statistics over the last %.1f minutes (latencies in ms):", getUptimeSeconds() / 60));
+        for (String commandType : commandTypes) {
+            report.append(String.format(Locale.ROOT, "\n%s: %d runs, %.3f per second",
+                    commandType, getCount(commandType), getThroughput(commandType)));
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram histogram = getHistogram(commandType, phase);
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                report.append(String.format(Locale.ROOT, "\n    %-8s p50 %s, p99 %s, max %s",
+                        phase.name().toLowerCase(Locale.ROOT),
+                        toMillis(histogram.getValueAtPercentile(50)),
+                        toMillis(histogram.getValueAtPercentile(99)),
+                        toMillis(histogram.getMax())));
+            }
+        }
+        return report.toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.logic.metrics;
+
+/**
+ * Counts durations, in nanoseconds, in a fixed number of buckets.
+ *
+ * Buckets are log-linear: each power of two is split into {@value #SUB_BUCKET_COUNT} equal buckets, so a duration
+ * read back from the histogram is never off by more than one part in {@value #SUB_BUCKET_COUNT}, however long it is.
+ * Durations of 2<sup>{@value #MAX_EXPONENT}</sup> nanoseconds (over an hour) or more all share the last bucket.
+ * The largest duration recorded is kept exactly.
+ *
+ * All methods are thread-safe.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 42;
+
+    /** Durations below {@code 2 * SUB_BUCKET_COUNT} each have a bucket of their own. */
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount;
+    private long max;
+
+    /**
+     * Records one occurrence of {@code nanos}. Negative durations are recorded as zero.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        totalCount++;
+        max = Math.max(max, value);
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the largest duration recorded, or zero if none has been.
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Returns a duration that {@code percentile} percent of the recorded durations do not exceed,
+     * or zero if none has been recorded.
+     * @param percentile between 0 and 100, inclusive.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueIn(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns a copy of this histogram, so that several statistics can be read from the same moment.
+     */
+    public synchronized LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        System.arraycopy(counts, 0, copy.counts, 0, BUCKET_COUNT);
+        copy.totalCount = totalCount;
+        copy.max = max;
+        return copy;
+    }
+
+    static int bucketOf(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent >= MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        int shift = exponent - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueIn(int bucket) {
+        if (bucket < 2 * SUB_BUCKET_COUNT) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (SUB_BUCKET_COUNT + bucket % SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.metrics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Periodically writes the report of a {@code CommandMetrics} to the log, from a background thread.
+ */
+public class MetricsReporter {
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsReporter.class);
+
+    private final CommandMetrics metrics;
+    private ScheduledExecutorService executor;
+
+    public MetricsReporter(CommandMetrics metrics) {
+        requireNonNull(metrics);
+        this.metrics = metrics;
+    }
+
+    /**
+     * Starts logging the report every {@code intervalSeconds} seconds.
+     * Does nothing if {@code intervalSeconds} is not positive or reporting has already started.
+     */
+    public synchronized void start(long intervalSeconds) {
+        if (intervalSeconds <= 0 || executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Writes the report to the log now.
+     */
+    public void report() {
+        logger.info(metrics.format());
+    }
+
+    /**
+     * Stops logging the report. Reporting can be started again afterwards.
+     */
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+}
@@ -1,31 +1,40 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-import seedu.address.logic.commands.AddCommand;
-import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
-import seedu.address.logic.commands.DeleteCommand;
-import seedu.address.logic.commands.EditCommand;
-import seedu.address.logic.commands.ExitCommand;
-import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
-import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The first word of the input selects a parser from the {@link CommandRegistry}, which parses the rest.
  */
 public class AddressBookParser {
 
+    private final CommandRegistry commandRegistry;
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser that recognizes the built-in commands.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public AddressBookParser() {
+        this(CommandRegistry.createDefault());
+    }
+
+    /**
+     * Creates a parser that recognizes the commands in {@code commandRegistry}.
+     * Commands registered with {@code commandRegistry} later on are recognized too.
+     */
+    public AddressBookParser(CommandRegistry commandRegistry) {
+        requireNonNull(commandRegistry);
+        this.commandRegistry = commandRegistry;
+    }
+
+    public CommandRegistry getCommandRegistry() {
+        return commandRegistry;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -35,42 +44,23 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd);
 
-        default:
+        final Parser<? extends Command> parser = commandRegistry.getParser(commandWord);
+        if (parser == null) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
     }
 
 }
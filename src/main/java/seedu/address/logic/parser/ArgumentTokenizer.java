@@ -1,10 +1,5 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
  *     e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
@@ -12,137 +7,120 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * 4. An argument's value may be wrapped in double quotes, e.g. {@code a/"Blk 5 p/ 2"}, in which case prefixes
+ *    inside the quotes are not recognized. Within quotes, {@code \"} stands for a double quote and {@code \\}
+ *    for a backslash. A value whose opening quote is never closed is taken as is.<br>
  */
 public class ArgumentTokenizer {
 
+    private static final Prefix PREAMBLE = new Prefix("");
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
      *
+     * The string is scanned once from left to right. A prefix is recognized wherever it directly follows a space,
+     * unless it is inside a quoted value.
+     *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix currentPrefix = PREAMBLE;
+        int valueStart = 0;
+        boolean isAtValueStart = false;
+
+        int position = 0;
+        while (position < argsString.length()) {
+            Prefix prefix = position > 0 && argsString.charAt(position - 1) == ' '
+                    ? findPrefixAt(argsString, position, prefixes)
+                    : null;
+            if (prefix != null) {
+                argMultimap.put(currentPrefix, extractArgumentValue(argsString, currentPrefix, valueStart, position));
+                currentPrefix = prefix;
+                position += prefix.getPrefix().length();
+                valueStart = position;
+                isAtValueStart = true;
+                continue;
+            }
+
+            char c = argsString.charAt(position);
+            if (isAtValueStart && c == QUOTE) {
+                int closingQuote = findClosingQuote(argsString, position);
+                if (closingQuote != -1) {
+                    position = closingQuote;
+                }
+            }
+            isAtValueStart &= Character.isWhitespace(c);
+            position++;
         }
 
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+        argMultimap.put(currentPrefix, extractArgumentValue(argsString, currentPrefix, valueStart, position));
+        return argMultimap;
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * Returns the longest of {@code prefixes} that occurs in {@code argsString} at {@code position},
+     * or null if none of them does.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+    private static Prefix findPrefixAt(String argsString, int position, Prefix... prefixes) {
+        Prefix match = null;
+        for (Prefix prefix : prefixes) {
+            String candidate = prefix.getPrefix();
+            if (argsString.startsWith(candidate, position)
+                    && (match == null || candidate.length() > match.getPrefix().length())) {
+                match = prefix;
+            }
         }
-
-        return argMultimap;
+        return match;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the index of the double quote that closes the one at {@code openingQuote}, skipping escaped
+     * characters, or -1 if the quote is never closed.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private static int findClosingQuote(String argsString, int openingQuote) {
+        for (int i = openingQuote + 1; i < argsString.length(); i++) {
+            char c = argsString.charAt(i);
+            if (c == ESCAPE) {
+                i++;
+            } else if (c == QUOTE) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the trimmed value of the argument of {@code prefix} that spans {@code [start, end)} of
+     * {@code argsString}. If the whole value is quoted, the quotes are removed and escapes resolved.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
+    private static String extractArgumentValue(String argsString, Prefix prefix, int start, int end) {
+        String value = argsString.substring(start, end).trim();
+        if (prefix == PREAMBLE || value.isEmpty() || value.charAt(0) != QUOTE
+                || findClosingQuote(value, 0) != value.length() - 1) {
+            return value;
         }
+        return unescape(value.substring(1, value.length() - 1));
+    }
 
-        int getStartPosition() {
-            return startPosition;
+    private static String unescape(String quoted) {
+        if (quoted.indexOf(ESCAPE) == -1) {
+            return quoted;
         }
-
-        Prefix getPrefix() {
-            return prefix;
+        StringBuilder unescaped = new StringBuilder(quoted.length());
+        for (int i = 0; i < quoted.length(); i++) {
+            char c = quoted.charAt(i);
+            if (c == ESCAPE && i + 1 < quoted.length()) {
+                c = quoted.charAt(++i);
+            }
+            unescaped.append(c);
         }
+        return unescaped.toString();
     }
 
 }
@@ -0,0 +1,99 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MemoryCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.UndoCommand;
+
+/**
+ * Maps command words to the parsers that turn their arguments into commands.
+ * Parsers are registered once and reused for every input, so they must be stateless.
+ * A command can also be reached through any number of aliases.
+ */
+public class CommandRegistry {
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+    /**
+     * Returns a registry holding the built-in commands.
+     */
+    public static CommandRegistry createDefault() {
+        CommandRegistry registry = new CommandRegistry();
+        registry.register(AddCommand.COMMAND_WORD, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        registry.register(FindCommand.COMMAND_WORD, new FindCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, ignoringArguments(new ClearCommand()));
+        registry.register(ListCommand.COMMAND_WORD, ignoringArguments(new ListCommand()));
+        registry.register(ExitCommand.COMMAND_WORD, ignoringArguments(new ExitCommand()));
+        registry.register(HelpCommand.COMMAND_WORD, ignoringArguments(new HelpCommand()));
+        registry.register(UndoCommand.COMMAND_WORD, ignoringArguments(new UndoCommand()));
+        registry.register(RedoCommand.COMMAND_WORD, ignoringArguments(new RedoCommand()));
+        registry.register(MemoryCommand.COMMAND_WORD, ignoringArguments(new MemoryCommand()));
+        return registry;
+    }
+
+    /**
+     * Returns a parser that ignores its arguments and always returns {@code command}.
+     * {@code command} is shared between all inputs, so it must not hold any state.
+     */
+    public static <T extends Command> Parser<T> ignoringArguments(T command) {
+        requireNonNull(command);
+        return arguments -> command;
+    }
+
+    /**
+     * Registers {@code parser} as the parser for {@code commandWord}.
+     * @throws IllegalArgumentException if {@code commandWord} is already registered, as a command or an alias.
+     */
+    public void register(String commandWord, Parser<? extends Command> parser) {
+        requireNonNull(commandWord);
+        requireNonNull(parser);
+        if (parsers.containsKey(commandWord)) {
+            throw new IllegalArgumentException("Command word already registered: " + commandWord);
+        }
+        parsers.put(commandWord, parser);
+    }
+
+    /**
+     * Registers {@code alias} as another word for the already registered {@code commandWord}.
+     * @throws IllegalArgumentException if {@code commandWord} is not registered or {@code alias} already is.
+     */
+    public void registerAlias(String alias, String commandWord) {
+        requireNonNull(commandWord);
+        Parser<? extends Command> parser = parsers.get(commandWord);
+        if (parser == null) {
+            throw new IllegalArgumentException("Unknown command word: " + commandWord);
+        }
+        register(alias, parser);
+    }
+
+    /**
+     * Returns the parser registered for {@code commandWord}, or null if there is none.
+     */
+    public Parser<? extends Command> getParser(String commandWord) {
+        return parsers.get(commandWord);
+    }
+
+    /**
+     * Returns every registered command word and alias.
+     */
+    public Set<String> getCommandWords() {
+        return Collections.unmodifiableSet(parsers.keySet());
+    }
+}
@@ -5,17 +5,23 @@ import static java.util.Objects.requireNonNull;
 import java.util.List;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * An {@code AddressBook} has a single writer, but any number of threads may read it through {@link #getSnapshot()}.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    private long version;
+    private volatile AddressBookSnapshot snapshot = AddressBookSnapshot.EMPTY;
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -45,6 +51,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        publishSnapshot();
     }
 
     /**
@@ -72,6 +79,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        publishSnapshot();
     }
 
     /**
@@ -83,6 +91,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        publishSnapshot();
     }
 
     /**
@@ -91,6 +100,69 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        publishSnapshot();
+    }
+
+    //// position-level operations, used to replay recorded changes
+
+    /**
+     * Inserts {@code p} at {@code index} in the person list.
+     * The person must not already exist in the address book; this is not checked.
+     */
+    protected void insertPersonAt(int index, Person p) {
+        persons.replayInsert(index, p);
+        publishSnapshot();
+    }
+
+    /**
+     * Replaces the person at {@code index} with {@code editedPerson}.
+     * No other person may be the same person as {@code editedPerson}; this is not checked.
+     */
+    protected void replacePersonAt(int index, Person editedPerson) {
+        persons.replayReplace(index, editedPerson);
+        publishSnapshot();
+    }
+
+    /**
+     * Removes the person at {@code index}.
+     */
+    protected void removePersonAt(int index) {
+        persons.removeAt(index);
+        publishSnapshot();
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    protected int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
+    //// snapshot methods
+
+    /**
+     * Returns an immutable snapshot of this address book as of its last completed mutation.
+     * Safe to call from any thread without locking.
+     */
+    public AddressBookSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the contents of this address book with {@code persons}, a list previously taken from a snapshot.
+     * This counts as a mutation, so the version keeps increasing.
+     */
+    protected void restorePersons(PersistentList<Person> persons) {
+        requireNonNull(persons);
+        this.persons.restoreSnapshot(persons);
+        publishSnapshot();
+    }
+
+    /**
+     * Publishes the current state of the address book as a new snapshot.
+     */
+    private void publishSnapshot() {
+        snapshot = new AddressBookSnapshot(++version, persons.asSnapshotList());
     }
 
     //// util methods
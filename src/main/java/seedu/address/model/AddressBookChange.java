@@ -0,0 +1,258 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersonCodec;
+
+/**
+ * A single recorded change to the person list of an {@code AddressBook}.
+ * A change holds just enough to be applied again (redo) or reverted (undo) on the address book it was recorded on,
+ * provided that address book is in the state right after (for reverting) or right before (for applying) the change.
+ */
+abstract class AddressBookChange {
+
+    private static final byte INSERT = 1;
+    private static final byte REMOVE = 2;
+    private static final byte REPLACE = 3;
+
+    /** Rough size of a change object itself, excluding the persons it refers to. */
+    private static final int CHANGE_OVERHEAD_BYTES = 32;
+
+    /**
+     * Returns a change recording that {@code person} was inserted at {@code index}.
+     */
+    static AddressBookChange insert(int index, Person person) {
+        return new Insert(index, person);
+    }
+
+    /**
+     * Returns a change recording that {@code person} was removed from {@code index}.
+     */
+    static AddressBookChange remove(int index, Person person) {
+        return new Remove(index, person);
+    }
+
+    /**
+     * Returns a change recording that the person at {@code index} was replaced.
+     */
+    static AddressBookChange replace(int index, Person before, Person after) {
+        return new Replace(index, before, after);
+    }
+
+    /**
+     * Returns a change recording that the whole person list was replaced.
+     * Only references to the lists are kept; as they are persistent, nothing is copied.
+     * The change is never written out.
+     */
+    static AddressBookChange reset(PersistentList<Person> before, PersistentList<Person> after) {
+        return new Reset(before, after);
+    }
+
+    /**
+     * Applies this change to {@code addressBook}, which must be in the state the change was recorded from.
+     */
+    abstract void apply(AddressBook addressBook);
+
+    /**
+     * Reverts this change on {@code addressBook}, which must be in the state the change left it in.
+     */
+    abstract void revert(AddressBook addressBook);
+
+    /**
+     * Returns an estimate of the number of heap bytes retained by this change alone, right after it was made.
+     * Persons that the address book still holds are not counted, since dropping the change would not free them.
+     */
+    abstract long estimateHeapBytes();
+
+    /**
+     * Returns true if this change can be written out with {@link #writeTo(DataOutput)}.
+     */
+    boolean canWrite() {
+        return true;
+    }
+
+    /**
+     * Writes this change to {@code out}, in a form that {@link #readFrom(DataInput)} can read back.
+     * @throws UnsupportedOperationException if {@link #canWrite()} is false.
+     */
+    abstract void writeTo(DataOutput out) throws IOException;
+
+    /**
+     * Reads a change previously written by {@link #writeTo(DataOutput)} from {@code in}.
+     */
+    static AddressBookChange readFrom(DataInput in) throws IOException {
+        byte type = in.readByte();
+        switch (type) {
+        case INSERT:
+            return new Insert(in.readInt(), PersonCodec.read(in));
+        case REMOVE:
+            return new Remove(in.readInt(), PersonCodec.read(in));
+        case REPLACE:
+            return new Replace(in.readInt(), PersonCodec.read(in), PersonCodec.read(in));
+        default:
+            throw new IOException("Unknown change type: " + type);
+        }
+    }
+
+    /**
+     * A person was added at a given position.
+     */
+    private static class Insert extends AddressBookChange {
+        private final int index;
+        private final Person person;
+
+        Insert(int index, Person person) {
+            this.index = index;
+            this.person = requireNonNull(person);
+        }
+
+        @Override
+        void apply(AddressBook addressBook) {
+            addressBook.insertPersonAt(index, person);
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.removePersonAt(index);
+        }
+
+        @Override
+        long estimateHeapBytes() {
+            // the inserted person is held by the address book
+            return CHANGE_OVERHEAD_BYTES;
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(INSERT);
+            out.writeInt(index);
+            PersonCodec.write(out, person);
+        }
+    }
+
+    /**
+     * A person was removed from a given position.
+     */
+    private static class Remove extends AddressBookChange {
+        private final int index;
+        private final Person person;
+
+        Remove(int index, Person person) {
+            this.index = index;
+            this.person = requireNonNull(person);
+        }
+
+        @Override
+        void apply(AddressBook addressBook) {
+            addressBook.removePersonAt(index);
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.insertPersonAt(index, person);
+        }
+
+        @Override
+        long estimateHeapBytes() {
+            return CHANGE_OVERHEAD_BYTES + PersonCodec.estimateHeapBytes(person);
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(REMOVE);
+            out.writeInt(index);
+            PersonCodec.write(out, person);
+        }
+    }
+
+    /**
+     * The person at a given position was replaced by another.
+     */
+    private static class Replace extends AddressBookChange {
+        private final int index;
+        private final Person before;
+        private final Person after;
+
+        Replace(int index, Person before, Person after) {
+            this.index = index;
+            this.before = requireNonNull(before);
+            this.after = requireNonNull(after);
+        }
+
+        @Override
+        void apply(AddressBook addressBook) {
+            addressBook.replacePersonAt(index, after);
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.replacePersonAt(index, before);
+        }
+
+        @Override
+        long estimateHeapBytes() {
+            // the replacement is held by the address book
+            return CHANGE_OVERHEAD_BYTES + PersonCodec.estimateHeapBytes(before);
+        }
+
+        @Override
+        void writeTo(DataOutput out) throws IOException {
+            out.writeByte(REPLACE);
+            out.writeInt(index);
+            PersonCodec.write(out, before);
+            PersonCodec.write(out, after);
+        }
+    }
+
+    /**
+     * The whole person list was replaced, e.g. by {@code clear}.
+     */
+    private static class Reset extends AddressBookChange {
+        private final PersistentList<Person> before;
+        private final PersistentList<Person> after;
+
+        Reset(PersistentList<Person> before, PersistentList<Person> after) {
+            this.before = requireNonNull(before);
+            this.after = requireNonNull(after);
+        }
+
+        @Override
+        void apply(AddressBook addressBook) {
+            addressBook.restorePersons(after);
+        }
+
+        @Override
+        void revert(AddressBook addressBook) {
+            addressBook.restorePersons(before);
+        }
+
+        /**
+         * Returns the cost of the references to the two lists only. The persistent lists share their structure with
+         * the address book and with each other, so what the change alone retains cannot be told without walking
+         * both lists, and walking them on every commit would cost as much as the copy this change avoids.
+         */
+        @Override
+        long estimateHeapBytes() {
+            return CHANGE_OVERHEAD_BYTES;
+        }
+
+        /**
+         * Returns false, since writing out the lists would mean writing out whole address books.
+         */
+        @Override
+        boolean canWrite() {
+            return false;
+        }
+
+        @Override
+        void writeTo(DataOutput out) {
+            throw new UnsupportedOperationException("A reset of the whole person list is kept in memory");
+        }
+    }
+}
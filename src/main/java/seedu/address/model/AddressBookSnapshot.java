@@ -0,0 +1,76 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable, point-in-time view of an {@code AddressBook}.
+ * Snapshots are published by the writer after every mutation, so any thread can read one without locking
+ * and without ever observing a half-applied change.
+ * Consecutive snapshots share most of their structure, so holding on to many of them is cheap.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    public static final AddressBookSnapshot EMPTY = new AddressBookSnapshot(0, PersistentList.empty());
+
+    private final long version;
+    private final PersistentList<Person> persons;
+
+    /** Lazily created view of {@code persons}; racing readers may each build one, which is harmless. */
+    private volatile ObservableList<Person> personListView;
+
+    /**
+     * Creates a snapshot of {@code persons} at the given {@code version}.
+     */
+    AddressBookSnapshot(long version, PersistentList<Person> persons) {
+        requireNonNull(persons);
+        this.version = version;
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the version of the address book this snapshot was taken at.
+     * Versions increase by one with every mutation of the address book.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the persons in this snapshot as a persistent list.
+     */
+    PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        ObservableList<Person> view = personListView;
+        if (view == null) {
+            view = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+            personListView = view;
+        }
+        return view;
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons (version " + version + ")";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AddressBookSnapshot // instanceof handles nulls
+                && persons.equals(((AddressBookSnapshot) other).persons));
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode();
+    }
+}
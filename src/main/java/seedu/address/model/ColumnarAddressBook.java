@@ -0,0 +1,240 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A read-only address book for books of millions of persons, which keeps every field of every person in a column
+ * instead of keeping a {@code Person} object for each person.
+ *
+ * Each text field is held as the UTF-8 bytes of all its values in one array, with an array of offsets, and the tags
+ * of each person as ordinals into a table of the distinct tags. A person then takes a small fraction of the memory
+ * of a {@code Person} and its field objects, and scanning a field reads consecutive memory. {@code Person} objects
+ * are only built when a person is read from {@link #getPersonList()}, and are not kept.
+ *
+ * Use {@link #find(List)} rather than filtering the person list to search names, since it reads the name column
+ * directly.
+ */
+public class ColumnarAddressBook implements ReadOnlyAddressBook {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final TextColumn names;
+    private final TextColumn phones;
+    private final TextColumn emails;
+    private final TextColumn addresses;
+    /** The tags of person {@code i} are at {@code tagOffsets[i]} up to {@code tagOffsets[i + 1]} in tagOrdinals. */
+    private final int[] tagOffsets;
+    private final int[] tagOrdinals;
+    private final Tag[] tags;
+    private final ObservableList<Person> personList;
+
+    private ColumnarAddressBook(Builder builder) {
+        builder.names.trimToSize();
+        builder.phones.trimToSize();
+        builder.emails.trimToSize();
+        builder.addresses.trimToSize();
+        names = builder.names;
+        phones = builder.phones;
+        emails = builder.emails;
+        addresses = builder.addresses;
+        tagOffsets = Arrays.copyOf(builder.tagOffsets, names.size() + 1);
+        tagOrdinals = Arrays.copyOf(builder.tagOrdinals, tagOffsets[names.size()]);
+        tags = builder.tags.toArray(new Tag[0]);
+        personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(new PersonView(null)));
+    }
+
+    /**
+     * Creates a {@code ColumnarAddressBook} holding the persons in {@code toBeCopied}.
+     */
+    public static ColumnarAddressBook of(ReadOnlyAddressBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        Builder builder = new Builder();
+        toBeCopied.getPersonList().forEach(builder::add);
+        return builder.build();
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Returns the person at {@code index}, built from the columns.
+     */
+    public Person getPerson(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        Tag[] personTags = new Tag[tagOffsets[index + 1] - tagOffsets[index]];
+        for (int i = 0; i < personTags.length; i++) {
+            personTags[i] = tags[tagOrdinals[tagOffsets[index] + i]];
+        }
+        return new Person(new Name(names.get(index)), new Phone(phones.get(index)), new Email(emails.get(index)),
+                new Address(addresses.get(index)), TagSet.of(Arrays.asList(personTags)));
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case, in the order of
+     * the address book. Matches the same persons as a {@code NameContainsKeywordsPredicate} with the same keywords.
+     * The persons are built from the columns when they are read from the returned list.
+     *
+     * @param keywords cannot be null, and each must be a single word.
+     */
+    public List<Person> find(List<String> keywords) {
+        requireNonNull(keywords);
+        String[] words = new String[keywords.size()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = keywords.get(i).trim();
+            checkArgument(!words[i].isEmpty(), "Keywords cannot be empty");
+            checkArgument(words[i].split("\\s+").length == 1, "Keywords should be single words");
+        }
+
+        int[] matches = new int[INITIAL_CAPACITY];
+        int matchCount = 0;
+        for (int row = 0; row < names.size(); row++) {
+            if (nameContainsAny(row, words)) {
+                if (matchCount == matches.length) {
+                    matches = Arrays.copyOf(matches, 2 * matches.length);
+                }
+                matches[matchCount++] = row;
+            }
+        }
+        return new PersonView(Arrays.copyOf(matches, matchCount));
+    }
+
+    private boolean nameContainsAny(int row, String[] words) {
+        for (String word : words) {
+            if (names.containsWordIgnoreCase(row, word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the bytes taken by the arrays holding the columns, which is nearly all the memory this takes.
+     */
+    public long getColumnBytes() {
+        return names.getArrayBytes() + phones.getArrayBytes() + emails.getArrayBytes() + addresses.getArrayBytes()
+                + (long) Integer.BYTES * (tagOffsets.length + tagOrdinals.length)
+                + 4L * tags.length; // the table of tags holds compressed references
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public String toString() {
+        return size() + " persons";
+    }
+
+    /**
+     * A list of the persons at some or all rows, built from the columns on every read.
+     */
+    private class PersonView extends AbstractList<Person> implements RandomAccess {
+
+        /** The rows in this list, or null for every row. */
+        private final int[] rows;
+
+        PersonView(int[] rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public Person get(int index) {
+            if (rows == null) {
+                return getPerson(index);
+            }
+            if (index < 0 || index >= rows.length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + rows.length);
+            }
+            return getPerson(rows[index]);
+        }
+
+        @Override
+        public int size() {
+            return rows == null ? names.size() : rows.length;
+        }
+    }
+
+    /**
+     * Builds a {@code ColumnarAddressBook} one person at a time, so that a large book can be built without holding
+     * all of its {@code Person} objects at once.
+     */
+    public static class Builder {
+
+        private final TextColumn names = new TextColumn();
+        private final TextColumn phones = new TextColumn();
+        private final TextColumn emails = new TextColumn();
+        private final TextColumn addresses = new TextColumn();
+        private int[] tagOffsets = new int[INITIAL_CAPACITY + 1];
+        private int[] tagOrdinals = new int[INITIAL_CAPACITY];
+        private final List<Tag> tags = new ArrayList<>();
+        private final Map<Tag, Integer> tagOrdinalsByTag = new HashMap<>();
+        private boolean isBuilt;
+
+        /**
+         * Appends {@code person} as the last person of the address book.
+         * The caller must make sure that it is not the same person as one already added.
+         */
+        public Builder add(Person person) {
+            requireNonNull(person);
+            if (isBuilt) {
+                throw new IllegalStateException("The address book has already been built");
+            }
+
+            int row = names.size();
+            if (row + 2 > tagOffsets.length) {
+                tagOffsets = Arrays.copyOf(tagOffsets, 2 * tagOffsets.length);
+            }
+            int tagCount = tagOffsets[row];
+            for (Tag tag : person.getTags()) {
+                if (tagCount == tagOrdinals.length) {
+                    tagOrdinals = Arrays.copyOf(tagOrdinals, 2 * tagOrdinals.length);
+                }
+                tagOrdinals[tagCount++] = tagOrdinalsByTag.computeIfAbsent(tag, newTag -> {
+                    tags.add(newTag);
+                    return tags.size() - 1;
+                });
+            }
+            tagOffsets[row + 1] = tagCount;
+
+            names.add(person.getName().fullName);
+            phones.add(person.getPhone().getValue());
+            emails.add(person.getEmail().getValue());
+            addresses.add(person.getAddress().value);
+            return this;
+        }
+
+        /**
+         * Returns the address book holding the persons added. The builder cannot be used afterwards.
+         */
+        public ColumnarAddressBook build() {
+            if (isBuilt) {
+                throw new IllegalStateException("The address book has already been built");
+            }
+            isBuilt = true;
+            return new ColumnarAddressBook(this);
+        }
+    }
+}
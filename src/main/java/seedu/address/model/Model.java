@@ -1,11 +1,13 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.Footprint;
 
 /**
  * The API of the Model component.
@@ -52,6 +54,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook as of its last completed change.
+     * Unlike {@link #getAddressBook()}, the snapshot may be read from any thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -84,4 +92,35 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Returns true if the model has previous address book states to restore.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if the model has undone address book states to restore.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Restores the model's address book to its previous state.
+     * @throws IOException if the previous state could not be read back from disk, in which case nothing is changed.
+     */
+    void undoAddressBook() throws IOException;
+
+    /**
+     * Restores the model's address book to its previously undone state.
+     */
+    void redoAddressBook();
+
+    /**
+     * Saves the current address book state for undo/redo.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns an estimate of the memory taken by the address book data.
+     */
+    Footprint estimateFootprint();
 }
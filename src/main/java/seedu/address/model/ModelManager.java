@@ -3,7 +3,10 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -11,7 +14,11 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.FilteredListUpdateEvent;
+import seedu.address.commons.util.ParallelFilter;
 import seedu.address.model.person.Person;
+import seedu.address.model.util.Footprint;
+import seedu.address.model.util.FootprintEstimator;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -19,9 +26,10 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
-    private final AddressBook addressBook;
+    private final VersionedAddressBook versionedAddressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final ParallelFilter parallelFilter;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -30,11 +38,13 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.addressBook = new AddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryByteBudget());
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
+        parallelFilter = new ParallelFilter(userPrefs.getParallelFilterThreshold(),
+                userPrefs.getParallelFilterParallelism());
     }
 
     public ModelManager() {
@@ -80,28 +90,33 @@ public class ModelManager implements Model {
 
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
+        versionedAddressBook.resetData(addressBook);
     }
 
     @Override
     public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
+        return versionedAddressBook;
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return versionedAddressBook.getSnapshot();
     }
 
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return addressBook.hasPerson(person);
+        return versionedAddressBook.hasPerson(person);
     }
 
     @Override
     public void deletePerson(Person target) {
-        addressBook.removePerson(target);
+        versionedAddressBook.removePerson(target);
     }
 
     @Override
     public void addPerson(Person person) {
-        addressBook.addPerson(person);
+        versionedAddressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -109,7 +124,7 @@ public class ModelManager implements Model {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        addressBook.setPerson(target, editedPerson);
+        versionedAddressBook.setPerson(target, editedPerson);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -123,10 +138,84 @@ public class ModelManager implements Model {
         return filteredPersons;
     }
 
+    /**
+     * {@inheritDoc}
+     * Large address books are filtered on several threads, as set in the user prefs, and the persons that match are
+     * then shown all at once, as a single change to the filtered person list.
+     */
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        FilteredListUpdateEvent event = new FilteredListUpdateEvent();
+        event.begin();
+        List<? extends Person> source = filteredPersons.getSource();
+        // showing everyone tests nothing, so there is nothing to gain from splitting it
+        if (predicate != PREDICATE_SHOW_ALL_PERSONS && parallelFilter.isParallel(source.size())) {
+            PrecomputedPredicate precomputedPredicate =
+                    new PrecomputedPredicate(source, parallelFilter.filter(source, predicate), predicate);
+            filteredPersons.setPredicate(precomputedPredicate);
+            precomputedPredicate.finish();
+        } else if (filteredPersons.getPredicate() != predicate) {
+            // the filtered list keeps up with changes to its source, so reapplying its predicate would only re-test
+            // every person again (e.g. after every undo)
+            filteredPersons.setPredicate(predicate);
+        }
+        event.setSourceSize(source.size());
+        event.setMatchedSize(filteredPersons.size());
+        event.commit();
+    }
+
+    //=========== Undo/Redo =================================================================================
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return versionedAddressBook.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return versionedAddressBook.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() throws IOException {
+        versionedAddressBook.undo();
+    }
+
+    @Override
+    public void redoAddressBook() {
+        versionedAddressBook.redo();
+    }
+
+    @Override
+    public void commitAddressBook() {
+        versionedAddressBook.commit();
+    }
+
+    /**
+     * Returns the estimated number of bytes of undo history held in memory.
+     */
+    public long getUndoHistoryBytesInMemory() {
+        return versionedAddressBook.getHistoryBytesInMemory();
+    }
+
+    /**
+     * Returns the number of undo history entries that have been moved to disk.
+     */
+    public int getSpilledUndoHistoryEntryCount() {
+        return versionedAddressBook.getSpilledHistoryEntryCount();
+    }
+
+    /**
+     * Frees memory by moving all of the undo history but the most recent entry to disk.
+     */
+    public void compactUndoHistory() {
+        versionedAddressBook.compactHistory();
+    }
+
+    @Override
+    public Footprint estimateFootprint() {
+        return FootprintEstimator.estimate(versionedAddressBook, getUndoHistoryBytesInMemory());
     }
 
     @Override
@@ -143,9 +232,45 @@ public class ModelManager implements Model {
 
         // state check
         ModelManager other = (ModelManager) obj;
-        return addressBook.equals(other.addressBook)
+        return versionedAddressBook.equals(other.versionedAddressBook)
                 && userPrefs.equals(other.userPrefs)
                 && filteredPersons.equals(other.filteredPersons);
     }
 
+    /**
+     * A predicate that, while the filtered person list applies it, answers for the persons of the source list from the
+     * matches already found, in list order, so that the list can take the results of a filter run on other threads.
+     * For any other person, such as one added later, it tests the person with the predicate the matches were found
+     * with.
+     */
+    private static class PrecomputedPredicate implements Predicate<Person> {
+
+        private final List<? extends Person> source;
+        private final BitSet matches;
+        private final Predicate<Person> predicate;
+        /** The position in the source of the person expected to be tested next. */
+        private int next;
+        private boolean isFinished;
+
+        PrecomputedPredicate(List<? extends Person> source, BitSet matches, Predicate<Person> predicate) {
+            this.source = source;
+            this.matches = matches;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (!isFinished && next < source.size() && source.get(next) == person) {
+                return matches.get(next++);
+            }
+            return predicate.test(person);
+        }
+
+        /**
+         * Makes every later test use the predicate, once the filtered list has taken the matches.
+         */
+        void finish() {
+            isFinished = true;
+        }
+    }
 }
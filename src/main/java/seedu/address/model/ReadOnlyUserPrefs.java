@@ -13,4 +13,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    long getUndoHistoryByteBudget();
+
+    int getParallelFilterThreshold();
+
+    int getParallelFilterParallelism();
+
 }
@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * One text field of every person in a {@link ColumnarAddressBook}: the UTF-8 bytes of all the values one after
+ * another in a single array, and the offset at which each value starts.
+ *
+ * Values are appended while the column is built and never change afterwards.
+ */
+class TextColumn {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private byte[] bytes = new byte[INITIAL_CAPACITY];
+    /** Value {@code i} takes the bytes from {@code offsets[i]} up to, but excluding, {@code offsets[i + 1]}. */
+    private int[] offsets = new int[INITIAL_CAPACITY + 1];
+    private int size;
+
+    /**
+     * Appends {@code value} as the last value of the column.
+     *
+     * @throws IllegalStateException if the column would hold more than {@code Integer.MAX_VALUE} bytes.
+     */
+    void add(String value) {
+        requireNonNull(value);
+        byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+        int start = offsets[size];
+        if (encoded.length > Integer.MAX_VALUE - start) {
+            throw new IllegalStateException("Column is full");
+        }
+        if (start + encoded.length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, (int) Math.min(Integer.MAX_VALUE,
+                    Math.max(start + encoded.length, 2L * bytes.length)));
+        }
+        if (size + 2 > offsets.length) {
+            offsets = Arrays.copyOf(offsets, 2 * offsets.length);
+        }
+        System.arraycopy(encoded, 0, bytes, start, encoded.length);
+        offsets[++size] = start + encoded.length;
+    }
+
+    /**
+     * Releases the spare capacity left from building the column.
+     */
+    void trimToSize() {
+        bytes = Arrays.copyOf(bytes, offsets[size]);
+        offsets = Arrays.copyOf(offsets, size + 1);
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns value {@code row}. A new string is built on every call.
+     */
+    String get(int row) {
+        return new String(bytes, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the bytes taken by the arrays of the column.
+     */
+    long getArrayBytes() {
+        return (long) bytes.length + (long) Integer.BYTES * offsets.length;
+    }
+
+    /**
+     * Returns true if value {@code row} contains {@code word} as a whole word, ignoring case, giving the same result as
+     * {@link StringUtil#containsWordIgnoreCase(String, String)} with an already trimmed single {@code word}.
+     * ASCII values, which include every valid name, are read from the column without building a string.
+     */
+    boolean containsWordIgnoreCase(int row, String word) {
+        int end = offsets[row + 1];
+        int wordStart = offsets[row];
+        while (wordStart < end) {
+            int wordEnd = wordStart;
+            while (wordEnd < end && !isWhitespace(bytes[wordEnd])) {
+                if (bytes[wordEnd] < 0) {
+                    // a multi-byte character, which a byte-at-a-time comparison cannot handle
+                    return StringUtil.containsWordIgnoreCase(get(row), word);
+                }
+                wordEnd++;
+            }
+            if (regionEqualsIgnoreCase(wordStart, wordEnd, word)) {
+                return true;
+            }
+            wordStart = wordEnd + 1;
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the ASCII bytes from {@code start} to {@code end} equal {@code word}, ignoring case as
+     * {@link String#equalsIgnoreCase(String)} does.
+     */
+    private boolean regionEqualsIgnoreCase(int start, int end, String word) {
+        if (end - start != word.length()) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            char c = (char) bytes[start + i];
+            char other = word.charAt(i);
+            if (c == other) {
+                continue;
+            }
+            char upper = Character.toUpperCase(c);
+            char otherUpper = Character.toUpperCase(other);
+            if (upper != otherUpper && Character.toLowerCase(upper) != Character.toLowerCase(otherUpper)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true for the ASCII whitespace characters matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || (b >= '\t' && b <= '\r');
+    }
+}
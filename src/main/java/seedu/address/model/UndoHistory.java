@@ -0,0 +1,283 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The undo/redo history of an {@code AddressBook}, kept as the changes made by each commit rather than as copies of
+ * the committed states.
+ *
+ * Committed entries are held in memory until their estimated size exceeds the byte budget. The oldest entries are
+ * then moved to an {@link UndoSpillLog} on disk, and read back one at a time when undo reaches them. The most recent
+ * entry is always kept in memory, as are entries that can be redone. Entries that replace the whole person list are
+ * never written out, as they would take whole address books with them: in their place on the log goes an empty
+ * record, and the entry itself stays in memory.
+ */
+class UndoHistory {
+
+    private static final Logger logger = LogsCenter.getLogger(UndoHistory.class);
+
+    private final long byteBudget;
+    private final List<AddressBookChange> pendingChanges = new ArrayList<>();
+    /** Most recent entry first. */
+    private final Deque<Entry> undoEntries = new ArrayDeque<>();
+    /** Most recently undone entry first. */
+    private final Deque<Entry> redoEntries = new ArrayDeque<>();
+    /** Entries older than all of {@code undoEntries}, most recent on top. */
+    private final UndoSpillLog spillLog = new UndoSpillLog();
+    /** Entries that could not be written out, by the size of {@code spillLog} right after their place was pushed. */
+    private final Map<Integer, Entry> entriesKeptInMemory = new HashMap<>();
+    private long bytesInMemory;
+
+    /**
+     * Creates an empty history that keeps about {@code byteBudget} bytes of entries in memory.
+     * With a budget of zero or less, only the most recent entry is kept in memory.
+     */
+    UndoHistory(long byteBudget) {
+        this.byteBudget = byteBudget;
+    }
+
+    /**
+     * Records a change made since the last commit.
+     */
+    void record(AddressBookChange change) {
+        requireNonNull(change);
+        pendingChanges.add(change);
+    }
+
+    /**
+     * Seals the changes recorded since the last commit into a new entry that can be undone.
+     * Any entries that were undone (and could have been redone) are discarded.
+     */
+    void commit() {
+        for (Entry entry : redoEntries) {
+            bytesInMemory -= entry.heapBytes;
+        }
+        redoEntries.clear();
+
+        Entry entry = new Entry(new ArrayList<>(pendingChanges));
+        pendingChanges.clear();
+        pushUndoEntry(entry);
+    }
+
+    /**
+     * Returns true if there is a committed entry to undo.
+     */
+    boolean canUndo() {
+        return !undoEntries.isEmpty() || !spillLog.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone entry to redo.
+     */
+    boolean canRedo() {
+        return !redoEntries.isEmpty();
+    }
+
+    /**
+     * Reverts uncommitted changes and the most recent entry on {@code addressBook}.
+     *
+     * @throws IOException if the entry could not be read back from disk, in which case neither {@code addressBook}
+     *     nor the history is changed.
+     */
+    void undo(AddressBook addressBook) throws IOException {
+        assert canUndo();
+        Entry entry;
+        if (!undoEntries.isEmpty()) {
+            entry = undoEntries.pop();
+            bytesInMemory -= entry.heapBytes;
+        } else {
+            entry = unspill();
+        }
+
+        revertPendingChanges(addressBook);
+        entry.revert(addressBook);
+        redoEntries.push(entry);
+        bytesInMemory += entry.heapBytes;
+    }
+
+    /**
+     * Reverts uncommitted changes on {@code addressBook}, then applies the most recently undone entry again.
+     */
+    void redo(AddressBook addressBook) {
+        assert canRedo();
+        revertPendingChanges(addressBook);
+
+        Entry entry = redoEntries.pop();
+        bytesInMemory -= entry.heapBytes;
+        entry.apply(addressBook);
+        pushUndoEntry(entry);
+    }
+
+    /**
+     * Moves every entry that can be undone, except the most recent one, to disk, whatever the byte budget.
+     */
+    void compact() {
+        while (undoEntries.size() > 1) {
+            spill(undoEntries.removeLast());
+        }
+    }
+
+    /**
+     * Returns the estimated number of heap bytes held by committed entries.
+     */
+    long getBytesInMemory() {
+        return bytesInMemory;
+    }
+
+    /**
+     * Returns the number of entries that have been moved to disk.
+     */
+    int getSpilledEntryCount() {
+        return spillLog.size();
+    }
+
+    /**
+     * Returns the file holding the entries that have been moved to disk, or null if none have been.
+     */
+    File getSpillFile() {
+        return spillLog.getFile();
+    }
+
+    private void revertPendingChanges(AddressBook addressBook) {
+        for (int i = pendingChanges.size() - 1; i >= 0; i--) {
+            pendingChanges.get(i).revert(addressBook);
+        }
+        pendingChanges.clear();
+    }
+
+    private void pushUndoEntry(Entry entry) {
+        undoEntries.push(entry);
+        bytesInMemory += entry.heapBytes;
+        while (bytesInMemory > byteBudget && undoEntries.size() > 1) {
+            spill(undoEntries.removeLast());
+        }
+    }
+
+    /**
+     * Moves {@code entry} to disk. If that fails, the entry and everything older than it is dropped instead,
+     * since the entries above it on the log could no longer be undone past the gap.
+     */
+    private void spill(Entry entry) {
+        bytesInMemory -= entry.heapBytes;
+        try {
+            if (entry.canWrite()) {
+                spillLog.push(entry.toBytes());
+            } else {
+                spillLog.push(new byte[0]);
+                entriesKeptInMemory.put(spillLog.size(), entry);
+                bytesInMemory += entry.heapBytes;
+            }
+        } catch (IOException ioe) {
+            logger.warning("Could not move undo history to disk, discarding older history: " + ioe);
+            clearSpillLog();
+        }
+    }
+
+    /**
+     * Discards every entry on the log, including those kept in memory in its place.
+     */
+    private void clearSpillLog() {
+        spillLog.clear();
+        for (Entry entry : entriesKeptInMemory.values()) {
+            bytesInMemory -= entry.heapBytes;
+        }
+        entriesKeptInMemory.clear();
+    }
+
+    /**
+     * Takes the most recent entry off the log, reading it back into memory first if it was written out.
+     * If reading fails, the log is left unchanged.
+     */
+    private Entry unspill() throws IOException {
+        Entry entry = entriesKeptInMemory.get(spillLog.size());
+        if (entry == null) {
+            entry = Entry.fromBytes(spillLog.peek());
+            spillLog.remove();
+        } else {
+            spillLog.remove();
+            entriesKeptInMemory.remove(spillLog.size() + 1);
+            bytesInMemory -= entry.heapBytes;
+        }
+        return entry;
+    }
+
+    /**
+     * The changes made by one commit.
+     */
+    private static class Entry {
+        private final List<AddressBookChange> changes;
+        private final long heapBytes;
+
+        Entry(List<AddressBookChange> changes) {
+            this.changes = Collections.unmodifiableList(changes);
+            long bytes = 0;
+            for (AddressBookChange change : changes) {
+                bytes += change.estimateHeapBytes();
+            }
+            this.heapBytes = bytes;
+        }
+
+        void apply(AddressBook addressBook) {
+            for (AddressBookChange change : changes) {
+                change.apply(addressBook);
+            }
+        }
+
+        void revert(AddressBook addressBook) {
+            for (int i = changes.size() - 1; i >= 0; i--) {
+                changes.get(i).revert(addressBook);
+            }
+        }
+
+        boolean canWrite() {
+            for (AddressBookChange change : changes) {
+                if (!change.canWrite()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        byte[] toBytes() throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeInt(changes.size());
+                for (AddressBookChange change : changes) {
+                    change.writeTo(out);
+                }
+            }
+            return bytes.toByteArray();
+        }
+
+        static Entry fromBytes(byte[] bytes) throws IOException {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+                int size = in.readInt();
+                List<AddressBookChange> changes = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    changes.add(AddressBookChange.readFrom(in));
+                }
+                return new Entry(changes);
+            } catch (IllegalArgumentException iae) {
+                // A corrupted field that no longer passes validation
+                throw new IOException("Invalid person in undo history", iae);
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+
+/**
+ * A stack of binary records kept in a temporary file.
+ * Each record is stored as its bytes followed by its length, so the most recently pushed record can always be found
+ * from the end of the file and popped by truncating the file. The file is created on the first push.
+ */
+class UndoSpillLog {
+
+    private static final int LENGTH_BYTES = Integer.BYTES;
+
+    private File file;
+    private int recordCount;
+
+    /**
+     * Returns true if the log holds no records.
+     */
+    boolean isEmpty() {
+        return recordCount == 0;
+    }
+
+    /**
+     * Returns the number of records in the log.
+     */
+    int size() {
+        return recordCount;
+    }
+
+    /**
+     * Pushes {@code record} onto the log.
+     */
+    void push(byte[] record) throws IOException {
+        if (file == null) {
+            file = Files.createTempFile("addressbook-undo", ".log").toFile();
+            file.deleteOnExit();
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(raf.length());
+            raf.write(record);
+            raf.writeInt(record.length);
+        }
+        recordCount++;
+    }
+
+    /**
+     * Returns the most recently pushed record, leaving it on the log.
+     * The log must not be empty.
+     */
+    byte[] peek() throws IOException {
+        assert !isEmpty();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            long end = raf.length();
+            int length = readLastLength(raf);
+            byte[] record = new byte[length];
+            raf.seek(end - LENGTH_BYTES - length);
+            raf.readFully(record);
+            return record;
+        }
+    }
+
+    /**
+     * Removes the most recently pushed record.
+     * The log must not be empty.
+     */
+    void remove() throws IOException {
+        assert !isEmpty();
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            long end = raf.length();
+            int length = readLastLength(raf);
+            raf.setLength(end - LENGTH_BYTES - length);
+        }
+        recordCount--;
+    }
+
+    /**
+     * Returns the length of the last record in {@code raf}.
+     *
+     * @throws IOException if the length cannot be read or does not fit in the file.
+     */
+    private static int readLastLength(RandomAccessFile raf) throws IOException {
+        long lengthPosition = raf.length() - LENGTH_BYTES;
+        if (lengthPosition < 0) {
+            throw new IOException("Undo history file is too short");
+        }
+        raf.seek(lengthPosition);
+        int length = raf.readInt();
+        if (length < 0 || length > lengthPosition) {
+            throw new IOException("Undo history file has an invalid record length: " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Returns the file holding the records, or null if nothing has been pushed since the log was last cleared.
+     */
+    File getFile() {
+        return file;
+    }
+
+    /**
+     * Discards every record and deletes the backing file.
+     */
+    void clear() {
+        recordCount = 0;
+        if (file != null) {
+            file.delete();
+            file = null;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.ParallelFilter;
 
 /**
  * Represents User's preferences.
@@ -15,6 +16,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private long undoHistoryByteBudget = VersionedAddressBook.DEFAULT_BYTE_BUDGET;
+    private int parallelFilterThreshold = ParallelFilter.DEFAULT_THRESHOLD;
+    private int parallelFilterParallelism;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +40,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setUndoHistoryByteBudget(newUserPrefs.getUndoHistoryByteBudget());
+        setParallelFilterThreshold(newUserPrefs.getParallelFilterThreshold());
+        setParallelFilterParallelism(newUserPrefs.getParallelFilterParallelism());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +63,41 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public long getUndoHistoryByteBudget() {
+        return undoHistoryByteBudget;
+    }
+
+    /**
+     * Sets the number of bytes of undo history to keep in memory before older history is moved to disk.
+     * With a budget of zero or less, only the most recent entry is kept in memory.
+     */
+    public void setUndoHistoryByteBudget(long undoHistoryByteBudget) {
+        this.undoHistoryByteBudget = undoHistoryByteBudget;
+    }
+
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    /**
+     * Sets the number of persons from which the person list is filtered on several threads at once.
+     */
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
+    public int getParallelFilterParallelism() {
+        return parallelFilterParallelism;
+    }
+
+    /**
+     * Sets the number of threads that filter the person list when it is large enough.
+     * With zero or less, the threads of the common fork/join pool are used, and with 1, the list is never split.
+     */
+    public void setParallelFilterParallelism(int parallelFilterParallelism) {
+        this.parallelFilterParallelism = parallelFilterParallelism;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +110,16 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && addressBookFilePath.equals(o.addressBookFilePath);
+                && addressBookFilePath.equals(o.addressBookFilePath)
+                && undoHistoryByteBudget == o.undoHistoryByteBudget
+                && parallelFilterThreshold == o.parallelFilterThreshold
+                && parallelFilterParallelism == o.parallelFilterParallelism;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, undoHistoryByteBudget, parallelFilterThreshold,
+                parallelFilterParallelism);
     }
 
     @Override
@@ -81,6 +127,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history byte budget : " + undoHistoryByteBudget);
         return sb.toString();
     }
 
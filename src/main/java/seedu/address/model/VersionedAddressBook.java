@@ -0,0 +1,167 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBook} that remembers its committed states so that changes can be undone and redone.
+ * Rather than keeping every committed state, it records each change as it is made, together with what is needed to
+ * reverse it, and groups the changes into one history entry per commit. Replacing the whole person list (e.g. when
+ * clearing) records references to the old and new persistent lists, so nothing is copied.
+ *
+ * The history keeps about {@code byteBudget} bytes in memory; older entries are moved to a temporary file on disk.
+ */
+public class VersionedAddressBook extends AddressBook {
+
+    public static final long DEFAULT_BYTE_BUDGET = 8L * 1024 * 1024;
+
+    private final UndoHistory history;
+
+    /**
+     * Creates a {@code VersionedAddressBook} whose initial state holds the persons in {@code initialState},
+     * with the default history budget.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, DEFAULT_BYTE_BUDGET);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} whose initial state holds the persons in {@code initialState},
+     * keeping about {@code byteBudget} bytes of history in memory.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, long byteBudget) {
+        requireNonNull(initialState);
+        history = new UndoHistory(byteBudget);
+        super.setPersons(initialState.getPersonList());
+    }
+
+    //// recorded operations
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        PersistentList<Person> before = getSnapshot().getPersons();
+        super.setPersons(persons);
+        history.record(AddressBookChange.reset(before, getSnapshot().getPersons()));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        int index = getPersonList().size();
+        super.addPerson(p);
+        history.record(AddressBookChange.insert(index, p));
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        int index = indexOfPerson(target);
+        super.setPerson(target, editedPerson);
+        history.record(AddressBookChange.replace(index, target, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = indexOfPerson(key);
+        super.removePerson(key);
+        history.record(AddressBookChange.remove(index, key));
+    }
+
+    //// undo/redo
+
+    /**
+     * Saves the changes made since the last commit as a new entry in the history.
+     * Any states that were undone (and could have been redone) are discarded.
+     */
+    public void commit() {
+        history.commit();
+    }
+
+    /**
+     * Restores the address book to its previous committed state, discarding any uncommitted changes.
+     * @throws NoUndoableStateException if there is no state to go back to.
+     * @throws IOException if the history of the previous state could not be read back from disk, in which case the
+     *     address book and its history are left unchanged.
+     */
+    public void undo() throws IOException {
+        if (!canUndo()) {
+            throw new NoUndoableStateException();
+        }
+        history.undo(this);
+    }
+
+    /**
+     * Restores the address book to the state that was last undone, discarding any uncommitted changes.
+     * @throws NoRedoableStateException if there is no undone state to go forward to.
+     */
+    public void redo() {
+        if (!canRedo()) {
+            throw new NoRedoableStateException();
+        }
+        history.redo(this);
+    }
+
+    /**
+     * Returns true if {@code undo()} has address book states to undo.
+     */
+    public boolean canUndo() {
+        return history.canUndo();
+    }
+
+    /**
+     * Returns true if {@code redo()} has address book states to redo.
+     */
+    public boolean canRedo() {
+        return history.canRedo();
+    }
+
+    /**
+     * Moves all of the history but the most recent entry and any entries that can be redone to disk.
+     */
+    void compactHistory() {
+        history.compact();
+    }
+
+    /**
+     * Returns the estimated number of bytes of history held in memory.
+     */
+    long getHistoryBytesInMemory() {
+        return history.getBytesInMemory();
+    }
+
+    /**
+     * Returns the number of history entries that have been moved to disk.
+     */
+    int getSpilledHistoryEntryCount() {
+        return history.getSpilledEntryCount();
+    }
+
+    /**
+     * Returns the file holding the history entries that have been moved to disk, or null if none have been.
+     */
+    File getHistorySpillFile() {
+        return history.getSpillFile();
+    }
+
+    /**
+     * Thrown when trying to {@code undo()} but can't.
+     */
+    public static class NoUndoableStateException extends RuntimeException {
+        private NoUndoableStateException() {
+            super("No committed state to go back to, unable to undo.");
+        }
+    }
+
+    /**
+     * Thrown when trying to {@code redo()} but can't.
+     */
+    public static class NoRedoableStateException extends RuntimeException {
+        private NoRedoableStateException() {
+            super("No undone state to go forward to, unable to redo.");
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isLineTerminator;
+import static seedu.address.commons.util.ValidationUtil.isWhitespace;
 
 /**
  * Represents a Person's address in the address book.
@@ -31,10 +33,20 @@ public class Address {
     }
 
     /**
-     * Returns true if a given string is a valid email.
+     * Returns true if a given string is a valid address.
+     * Gives the same result as matching {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        // the first character may end a line, but no other may, since . does not match it
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -2,10 +2,20 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAsciiAlphanumeric;
+import static seedu.address.commons.util.ValidationUtil.isWordCharacter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import seedu.address.commons.util.WeakInterner;
 
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
+ *
+ * Many persons share a few email domains, so the domain is held as a canonical string shared by every email in that
+ * domain, and only the local part, which is always ASCII, is held by each email, as one byte per character.
  */
 public class Email {
 
@@ -27,7 +37,11 @@ public class Email {
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@"
             + DOMAIN_FIRST_CHARACTER_REGEX + DOMAIN_MIDDLE_REGEX + DOMAIN_LAST_CHARACTER_REGEX;
 
-    public final String value;
+    /** The email domains in use. */
+    private static final WeakInterner<String> CANONICAL_DOMAINS = new WeakInterner<>(domain -> domain);
+
+    private final byte[] localPart;
+    private final String domain;
 
     /**
      * Constructs an {@code Email}.
@@ -37,31 +51,89 @@ public class Email {
     public Email(String email) {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
-        value = email;
+        int separator = email.indexOf('@');
+        localPart = email.substring(0, separator).getBytes(StandardCharsets.US_ASCII);
+        domain = CANONICAL_DOMAINS.intern(email.substring(separator + 1), newDomain -> newDomain);
     }
 
     /**
      * Returns if a given string is a valid email.
+     * Gives the same result as matching {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // '@' is in neither part, so the first one is the only place the address can be split
+        int separator = test.indexOf('@');
+        if (separator < 1 || test.length() - separator - 1 < 2) {
+            return false;
+        }
+        for (int i = 0; i < separator; i++) {
+            char c = test.charAt(i);
+            if (!isWordCharacter(c) && SPECIAL_CHARACTERS.indexOf(c) == -1) {
+                return false;
+            }
+        }
+        if (!isAsciiAlphanumeric(test.charAt(separator + 1))
+                || !isAsciiAlphanumeric(test.charAt(test.length() - 1))) {
+            return false;
+        }
+        for (int i = separator + 2; i < test.length() - 1; i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && c != '.' && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the email address. A new string is built on every call.
+     */
+    public String getValue() {
+        StringBuilder value = new StringBuilder(localPart.length + 1 + domain.length());
+        for (byte c : localPart) {
+            value.append((char) c);
+        }
+        return value.append('@').append(domain).toString();
+    }
+
+    public String getDomain() {
+        return domain;
+    }
+
+    /**
+     * Returns the number of characters in the email address.
+     */
+    public int length() {
+        return localPart.length + 1 + domain.length();
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Email // instanceof handles nulls
-                && value.equals(((Email) other).value)); // state check
+                && Arrays.equals(localPart, ((Email) other).localPart)
+                && domain.equals(((Email) other).domain)); // state check
     }
 
+    /**
+     * Returns the hash code of the email address as a string, without building the string.
+     */
     @Override
     public int hashCode() {
-        return value.hashCode();
+        int hash = 0;
+        for (byte c : localPart) {
+            hash = 31 * hash + c;
+        }
+        hash = 31 * hash + '@';
+        for (int i = 0; i < domain.length(); i++) {
+            hash = 31 * hash + domain.charAt(i);
+        }
+        return hash;
     }
 
 }
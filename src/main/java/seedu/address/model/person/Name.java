@@ -2,10 +2,23 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAsciiAlphanumeric;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WeakInterner;
 
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
+ *
+ * The words of the name are split and case-folded once, when the name is created, so that searching names for words
+ * neither splits nor folds them again. Many persons share first names and surnames, so each folded word is held as a
+ * canonical string shared by every name containing it.
  */
 public class Name {
 
@@ -18,7 +31,11 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    /** The case-folded words in use, as in {@link StringUtil#foldCase(String)}. */
+    private static final WeakInterner<String> CANONICAL_FOLDED_WORDS = new WeakInterner<>(word -> word);
+
     public final String fullName;
+    private final String[] foldedWords;
 
     /**
      * Constructs a {@code Name}.
@@ -29,15 +46,77 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        foldedWords = splitAndFold(name);
+    }
+
+    /**
+     * Returns the case-folded words of a valid name, which are separated by one or more spaces.
+     */
+    private static String[] splitAndFold(String name) {
+        String[] words = new String[countWords(name)];
+        int wordStart = 0;
+        for (int i = 0; i < words.length; i++) {
+            int wordEnd = name.indexOf(' ', wordStart);
+            if (wordEnd == -1) {
+                wordEnd = name.length();
+            }
+            String word = wordStart == 0 && wordEnd == name.length() ? name : name.substring(wordStart, wordEnd);
+            words[i] = CANONICAL_FOLDED_WORDS.intern(StringUtil.foldCase(word), newWord -> newWord);
+            wordStart = wordEnd;
+            while (wordStart < name.length() && name.charAt(wordStart) == ' ') {
+                wordStart++;
+            }
+        }
+        return words;
+    }
+
+    private static int countWords(String name) {
+        int count = 0;
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) != ' ' && (i == 0 || name.charAt(i - 1) == ' ')) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
      * Returns true if a given string is a valid name.
+     * Gives the same result as matching {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty() || !isAsciiAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (!isAsciiAlphanumeric(c) && c != ' ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the words of the name, case-folded as in {@link StringUtil#foldCase(String)}.
+     */
+    public List<String> getFoldedWords() {
+        return Collections.unmodifiableList(Arrays.asList(foldedWords));
     }
 
+    /**
+     * Returns true if any word of the name is in {@code foldedWords}, which holds words case-folded as in
+     * {@link StringUtil#foldCase(String)}. Gives the same result as checking each word with
+     * {@link StringUtil#containsWordIgnoreCase(String, String)}, without allocating.
+     */
+    public boolean containsAnyWord(Set<String> foldedWords) {
+        for (String word : this.foldedWords) {
+            if (foldedWords.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     public String toString() {
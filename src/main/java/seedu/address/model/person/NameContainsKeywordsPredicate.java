@@ -1,24 +1,41 @@
 package seedu.address.model.person;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A keyword matches a word of the name ignoring case, as in {@link StringUtil#containsWordIgnoreCase(String, String)}.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    /** The keywords, trimmed and case-folded, so that testing a person only looks up the words of its name. */
+    private final Set<String> foldedKeywords = new HashSet<>();
 
+    /**
+     * Creates a predicate matching the persons whose name contains any of {@code keywords}.
+     *
+     * @param keywords cannot be null, and each must be a single word once trimmed.
+     */
     public NameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        for (String keyword : keywords) {
+            String trimmedKeyword = keyword.trim();
+            checkArgument(!trimmedKeyword.isEmpty(), "Keywords cannot be empty");
+            checkArgument(trimmedKeyword.split("\\s+").length == 1, "Keywords should be single words");
+            foldedKeywords.add(StringUtil.foldCase(trimmedKeyword));
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        return person.getName().containsAnyWord(foldedKeywords);
     }
 
     @Override
@@ -0,0 +1,354 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.OffHeapRecordStore;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.PersonCodec;
+
+/**
+ * A list of persons with the same uniqueness rules and operations as {@link UniquePersonList}, whose persons are
+ * kept outside the Java heap.
+ *
+ * Each person is written with {@link PersonCodec} to an {@link OffHeapRecordStore}, and the heap holds only the
+ * handle of each record, in list order. The heap taken by the list, and the work it gives the garbage collector, is
+ * then a few bytes per person instead of a few hundred. Persons are decoded whenever they are read, so reading is
+ * slower than from a {@code UniquePersonList}, and unlike it, this list keeps no snapshots for other threads.
+ *
+ * Not thread-safe.
+ *
+ * @see Person#isSamePerson(Person)
+ */
+public class OffHeapPersonList implements Iterable<Person> {
+
+    private final OffHeapRecordStore store;
+    private final RecordList records;
+    private final ObservableList<Person> internalList;
+    private final ObservableList<Person> internalUnmodifiableList;
+
+    /**
+     * Creates an empty list, kept in a new store with slabs of the default size.
+     */
+    public OffHeapPersonList() {
+        this(new OffHeapRecordStore());
+    }
+
+    /**
+     * Creates an empty list, kept in {@code store}, which must not be used by anything else.
+     */
+    public OffHeapPersonList(OffHeapRecordStore store) {
+        this.store = requireNonNull(store);
+        records = new RecordList();
+        internalList = FXCollections.observableList(records);
+        internalUnmodifiableList = FXCollections.unmodifiableObservableList(internalList);
+    }
+
+    /**
+     * Returns true if the list contains an equivalent person as the given argument.
+     * Only the persons with the same name are decoded.
+     */
+    public boolean contains(Person toCheck) {
+        requireNonNull(toCheck);
+        return records.find(toCheck, toCheck::isSamePerson) != -1;
+    }
+
+    /**
+     * Adds a person to the list.
+     * The person must not already exist in the list.
+     */
+    public void add(Person toAdd) {
+        add(records.size(), toAdd);
+    }
+
+    /**
+     * Inserts a person at {@code index}, shifting later persons back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+    }
+
+    /**
+     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * {@code target} must exist in the list.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        int index = indexOf(target);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        setPerson(index, editedPerson);
+    }
+
+    /**
+     * Replaces the person at {@code index} with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     */
+    public void setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Person target = internalList.get(index);
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.set(index, editedPerson);
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return records.find(person, person::equals);
+    }
+
+    /**
+     * Removes the equivalent person from the list.
+     * The person must exist in the list.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        int index = indexOf(toRemove);
+        if (index == -1) {
+            throw new PersonNotFoundException();
+        }
+        internalList.remove(index);
+    }
+
+    /**
+     * Removes the person at {@code index}, shifting later persons forward by one.
+     */
+    public void removeAt(int index) {
+        internalList.remove(index);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}.
+     * {@code persons} must not contain duplicate persons.
+     */
+    public void setPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        if (!UniquePersonList.personsAreUnique(persons)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.setAll(persons);
+    }
+
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * Returns the list as an unmodifiable {@code ObservableList}, which decodes a person whenever one is read.
+     */
+    public ObservableList<Person> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    /**
+     * Returns the memory taken outside the heap by the persons.
+     */
+    public long getOffHeapBytes() {
+        return store.getOffHeapBytes();
+    }
+
+    @Override
+    public Iterator<Person> iterator() {
+        return internalUnmodifiableList.iterator();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OffHeapPersonList // instanceof handles nulls
+                        && internalList.equals(((OffHeapPersonList) other).internalList));
+    }
+
+    @Override
+    public int hashCode() {
+        return internalList.hashCode();
+    }
+
+    /**
+     * The persons in the store, in list order, as a modifiable list that the observable list wraps.
+     * Every person written to the list is encoded into a new record, and every person read is decoded from one.
+     *
+     * The handles may start part way into their array, and an insertion or removal moves whichever side of it is
+     * shorter, so that emptying the list from the front, as the observable list does when it is cleared, takes linear
+     * time.
+     */
+    private class RecordList extends AbstractList<Person> implements RandomAccess {
+
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] handles = new long[INITIAL_CAPACITY];
+        /** The position of the first handle in {@code handles}. */
+        private int first;
+        private int size;
+        private final EncodingBuffer encodingBuffer = new EncodingBuffer();
+        private final DataOutputStream encoder = new DataOutputStream(encodingBuffer);
+        private byte[] decodingBuffer = new byte[INITIAL_CAPACITY];
+
+        @Override
+        public Person get(int index) {
+            checkIndex(index, size);
+            return decode(handles[first + index]);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public Person set(int index, Person person) {
+            checkIndex(index, size);
+            Person old = decode(handles[first + index]);
+            long handle = encode(person);
+            store.free(handles[first + index]);
+            handles[first + index] = handle;
+            return old;
+        }
+
+        @Override
+        public void add(int index, Person person) {
+            checkIndex(index, size + 1);
+            long handle = encode(person);
+            if (index < size / 2 && first > 0) {
+                System.arraycopy(handles, first, handles, first - 1, index);
+                first--;
+            } else {
+                if (first + size == handles.length) {
+                    makeRoomAtEnd();
+                }
+                System.arraycopy(handles, first + index, handles, first + index + 1, size - index);
+            }
+            handles[first + index] = handle;
+            size++;
+            modCount++;
+        }
+
+        @Override
+        public Person remove(int index) {
+            checkIndex(index, size);
+            Person old = decode(handles[first + index]);
+            store.free(handles[first + index]);
+            if (index < size / 2) {
+                System.arraycopy(handles, first, handles, first + 1, index);
+                first++;
+            } else {
+                System.arraycopy(handles, first + index + 1, handles, first + index, size - index - 1);
+            }
+            size--;
+            if (size == 0) {
+                first = 0;
+            }
+            modCount++;
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            for (int i = 0; i < size; i++) {
+                store.free(handles[first + i]);
+            }
+            handles = new long[INITIAL_CAPACITY];
+            first = 0;
+            size = 0;
+            modCount++;
+        }
+
+        /**
+         * Returns the position of the first person with the same name as {@code person} that {@code matcher}
+         * accepts, or -1 if there is none. Records are compared with the encoded name, which starts every record,
+         * in place, so that only persons with the same name are decoded.
+         */
+        int find(Person person, Predicate<Person> matcher) {
+            encodingBuffer.reset();
+            try {
+                encoder.writeUTF(person.getName().fullName);
+            } catch (IOException ioe) {
+                throw new AssertionError(ioe); // writing to a byte array cannot fail
+            }
+            byte[] encodedName = encodingBuffer.array();
+            int encodedNameLength = encodingBuffer.size();
+            for (int i = 0; i < size; i++) {
+                long handle = handles[first + i];
+                if (store.startsWith(handle, encodedName, encodedNameLength) && matcher.test(decode(handle))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private long encode(Person person) {
+            requireNonNull(person);
+            encodingBuffer.reset();
+            try {
+                PersonCodec.write(encoder, person);
+            } catch (IOException ioe) {
+                throw new AssertionError(ioe); // writing to a byte array cannot fail
+            }
+            return store.add(encodingBuffer.array(), encodingBuffer.size());
+        }
+
+        private Person decode(long handle) {
+            int length = store.length(handle);
+            if (decodingBuffer.length < length) {
+                decodingBuffer = new byte[Math.max(length, 2 * decodingBuffer.length)];
+            }
+            store.read(handle, decodingBuffer);
+            try {
+                return PersonCodec.read(new DataInputStream(new ByteArrayInputStream(decodingBuffer, 0, length)));
+            } catch (IOException ioe) {
+                throw new AssertionError(ioe); // every record was written by encode
+            }
+        }
+
+        /**
+         * Moves the handles to the start of the array if that frees at least a quarter of it, or else grows it.
+         */
+        private void makeRoomAtEnd() {
+            long[] target = first >= handles.length / 4 ? handles : new long[2 * handles.length];
+            System.arraycopy(handles, first, target, 0, size);
+            handles = target;
+            first = 0;
+        }
+
+        private void checkIndex(int index, int bound) {
+            if (index < 0 || index >= bound) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+            }
+        }
+    }
+
+    /**
+     * A {@code ByteArrayOutputStream} whose array can be read without copying it.
+     */
+    private static class EncodingBuffer extends ByteArrayOutputStream {
+        byte[] array() {
+            return buf;
+        }
+    }
+}
@@ -2,16 +2,18 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
-import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * Since a person never changes, its hash code is computed once, when it is created. {@code equals} compares the hash
+ * codes before any field, so that telling two different persons apart, as searching a list for a person mostly does,
+ * usually takes a single comparison.
  */
 public class Person {
 
@@ -22,7 +24,9 @@ public class Person {
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
+
+    private final int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -33,7 +37,20 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
+        hashCode = computeHashCode(name, phone, email, address, this.tags);
+    }
+
+    /**
+     * Returns the same hash code as {@code Objects.hash(name, phone, email, address, tags)}, without allocating.
+     */
+    private static int computeHashCode(Name name, Phone phone, Email email, Address address, TagSet tags) {
+        int hash = 1;
+        hash = 31 * hash + name.hashCode();
+        hash = 31 * hash + phone.hashCode();
+        hash = 31 * hash + email.hashCode();
+        hash = 31 * hash + address.hashCode();
+        return 31 * hash + tags.hashCode();
     }
 
     public Name getName() {
@@ -57,7 +74,7 @@ public class Person {
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     /**
@@ -89,8 +106,9 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return otherPerson.getName().equals(getName())
+        return otherPerson.hashCode == hashCode
                 && otherPerson.getPhone().equals(getPhone())
+                && otherPerson.getName().equals(getName())
                 && otherPerson.getEmail().equals(getEmail())
                 && otherPerson.getAddress().equals(getAddress())
                 && otherPerson.getTags().equals(getTags());
@@ -98,8 +116,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags);
+        return hashCode;
     }
 
     @Override
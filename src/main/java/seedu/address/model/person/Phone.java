@@ -2,10 +2,17 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAsciiDigit;
+
+import java.util.Arrays;
 
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
+ *
+ * The digits are held in binary-coded decimal, four bits per digit, rather than as a string. Numbers of up to
+ * {@link #MAX_DIGITS_IN_LONG} digits, which is nearly all of them, fit in a single {@code long}, so that comparing and
+ * hashing phone numbers never touches another object, and the text is only built when it is asked for.
  */
 public class Phone {
 
@@ -13,7 +20,20 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
-    public final String value;
+
+    /** The most digits held in a {@code long}. Longer numbers are held in an array. */
+    public static final int MAX_DIGITS_IN_LONG = Long.SIZE / 4;
+
+    /** Marks a position holding no digit, so that leading zeros are kept. */
+    private static final int NO_DIGIT = 0xF;
+
+    /**
+     * The digits, one per four bits with the last digit in the lowest bits. Positions before the first digit hold
+     * {@code NO_DIGIT}. Always 0 for numbers held in {@code longDigits}.
+     */
+    private final long digits;
+    /** The digits of numbers too long for {@code digits}, two per byte with the first digit in the high bits. */
+    private final byte[] longDigits;
 
     /**
      * Constructs a {@code Phone}.
@@ -23,31 +43,97 @@ public class Phone {
     public Phone(String phone) {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
-        value = phone;
+        if (phone.length() <= MAX_DIGITS_IN_LONG) {
+            digits = packIntoLong(phone);
+            longDigits = null;
+        } else {
+            digits = 0;
+            longDigits = packIntoArray(phone);
+        }
+    }
+
+    private static long packIntoLong(String phone) {
+        long packed = -1L; // every position starts as NO_DIGIT
+        for (int i = 0; i < phone.length(); i++) {
+            packed = (packed << 4) | (phone.charAt(i) - '0');
+        }
+        return packed;
+    }
+
+    private static byte[] packIntoArray(String phone) {
+        byte[] packed = new byte[(phone.length() + 1) / 2];
+        for (int i = 0; i < packed.length; i++) {
+            int high = phone.charAt(2 * i) - '0';
+            int low = 2 * i + 1 < phone.length() ? phone.charAt(2 * i + 1) - '0' : NO_DIGIT;
+            packed[i] = (byte) (high << 4 | low);
+        }
+        return packed;
     }
 
     /**
      * Returns true if a given string is a valid phone number.
+     * Gives the same result as matching {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.length() < 3) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of digits.
+     */
+    public int length() {
+        if (longDigits == null) {
+            // each leading NO_DIGIT is four zero bits in the complement
+            return MAX_DIGITS_IN_LONG - Long.numberOfLeadingZeros(~digits) / 4;
+        }
+        boolean isLastHalfUsed = (longDigits[longDigits.length - 1] & NO_DIGIT) != NO_DIGIT;
+        return 2 * longDigits.length - (isLastHalfUsed ? 0 : 1);
+    }
+
+    private int digitAt(int position, int length) {
+        if (longDigits == null) {
+            return (int) (digits >>> (4 * (length - 1 - position))) & 0xF;
+        }
+        int pair = longDigits[position / 2];
+        return (position % 2 == 0 ? pair >> 4 : pair) & 0xF;
+    }
+
+    /**
+     * Returns the phone number as text. A new string is built on every call.
+     */
+    public String getValue() {
+        int length = length();
+        char[] text = new char[length];
+        for (int i = 0; i < length; i++) {
+            text[i] = (char) ('0' + digitAt(i, length));
+        }
+        return new String(text);
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Phone // instanceof handles nulls
-                && value.equals(((Phone) other).value)); // state check
+                && digits == ((Phone) other).digits
+                && Arrays.equals(longDigits, ((Phone) other).longDigits)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return longDigits == null ? Long.hashCode(digits) : Arrays.hashCode(longDigits);
     }
 
 }
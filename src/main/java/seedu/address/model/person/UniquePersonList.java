@@ -3,11 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,6 +23,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the observable list, the contents are kept in a {@link PersistentList} that is republished after every
+ * mutation (see {@link #asSnapshotList()}). Other threads can read it without locking, and since successive versions
+ * share structure, old versions can be retained cheaply (e.g. for undo).
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -27,6 +34,7 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private volatile PersistentList<Person> publishedList = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
@@ -46,6 +54,20 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        publishedList = publishedList.append(toAdd);
+    }
+
+    /**
+     * Inserts a person at {@code index}, shifting later persons back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        publishedList = publishedList.insert(index, toAdd);
     }
 
     /**
@@ -66,6 +88,30 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        publishedList = publishedList.replace(index, editedPerson);
+    }
+
+    /**
+     * Replaces the person at {@code index} with {@code editedPerson}.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the list.
+     */
+    public void setPerson(int index, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Person target = internalList.get(index);
+        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.set(index, editedPerson);
+        publishedList = publishedList.replace(index, editedPerson);
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if it is not in the list.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        return internalList.indexOf(person);
     }
 
     /**
@@ -74,14 +120,26 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        publishedList = publishedList.removeAt(index);
+    }
+
+    /**
+     * Removes the person at {@code index}, shifting later persons forward by one.
+     */
+    public void removeAt(int index) {
+        internalList.remove(index);
+        publishedList = publishedList.removeAt(index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        publishedList = replacement.publishedList;
     }
 
     /**
@@ -95,6 +153,7 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        publishedList = PersistentList.copyOf(persons);
     }
 
     /**
@@ -104,6 +163,48 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Inserts {@code person} at {@code index} to replay a change previously made to this list, e.g. for undo.
+     * The person is not checked against the rest of the list, since the state being restored was checked when it was
+     * first reached, so only the one element changes and the cost does not grow with the size of the list.
+     */
+    public void replayInsert(int index, Person person) {
+        requireNonNull(person);
+        internalList.add(index, person);
+        publishedList = publishedList.insert(index, person);
+    }
+
+    /**
+     * Replaces the person at {@code index} with {@code person} to replay a change previously made to this list.
+     * As with {@link #replayInsert(int, Person)}, the person is not checked against the rest of the list.
+     */
+    public void replayReplace(int index, Person person) {
+        requireNonNull(person);
+        internalList.set(index, person);
+        publishedList = publishedList.replace(index, person);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, a list previously returned by
+     * {@link #asSnapshotList()}. The snapshot is adopted as is, without re-checking it for duplicates.
+     * Every person in the observable list is replaced, so this is only meant for changes to the whole list; single
+     * persons are restored with {@link #replayInsert(int, Person)}, {@link #replayReplace(int, Person)} and
+     * {@link #removeAt(int)}.
+     */
+    public void restoreSnapshot(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        internalList.setAll(snapshot);
+        publishedList = snapshot;
+    }
+
+    /**
+     * Returns an immutable view of the list as of the last completed mutation.
+     * Safe to call from any thread; the returned list never changes.
+     */
+    public PersistentList<Person> asSnapshotList() {
+        return publishedList;
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -123,13 +224,16 @@ public class UniquePersonList implements Iterable<Person> {
 
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Two persons are the same person exactly when they share a name and a phone, or a name and an email,
+     * so it suffices to look for repeated pairs of those.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    static boolean personsAreUnique(List<Person> persons) {
+        Set<List<Object>> namesAndPhones = new HashSet<>();
+        Set<List<Object>> namesAndEmails = new HashSet<>();
+        for (Person person : persons) {
+            if (!namesAndPhones.add(List.of(person.getName(), person.getPhone()))
+                    || !namesAndEmails.add(List.of(person.getName(), person.getEmail()))) {
+                return false;
             }
         }
         return true;
@@ -2,34 +2,58 @@ package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.ValidationUtil.isAsciiAlphanumeric;
+
+import seedu.address.commons.util.WeakInterner;
 
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags are canonical: {@link #of(String)} returns the same instance for the same name for as long as that tag is in
+ * use, so a tag used by many persons takes memory only once, and equal tags are usually the same object.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    /** The tags in use, by name. */
+    private static final WeakInterner<Tag> CANONICAL_TAGS = new WeakInterner<>(tag -> tag.tagName);
+
     public final String tagName;
 
+    private Tag(String tagName) {
+        this.tagName = tagName;
+    }
+
     /**
-     * Constructs a {@code Tag}.
+     * Returns the tag named {@code tagName}.
      *
      * @param tagName A valid tag name.
      */
-    public Tag(String tagName) {
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        return CANONICAL_TAGS.intern(tagName, name -> {
+            checkArgument(isValidTagName(name), MESSAGE_CONSTRAINTS);
+            return new Tag(name);
+        });
     }
 
     /**
      * Returns true if a given string is a valid tag name.
+     * Gives the same result as matching {@link #VALIDATION_REGEX}, without compiling it.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAsciiAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,183 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, held as an array sorted by tag name.
+ *
+ * Persons have few tags, so a small array takes far less memory than a {@code HashSet} and is as fast to search.
+ * Iteration follows the order of tag names. {@code equals} and {@code hashCode} do not allocate when given another
+ * {@code TagSet}, and all methods that would modify the set throw {@code UnsupportedOperationException}.
+ */
+public final class TagSet extends AbstractSet<Tag> {
+
+    private static final Tag[] NO_TAGS = new Tag[0];
+    private static final TagSet EMPTY = new TagSet(NO_TAGS);
+    private static final Comparator<Tag> BY_NAME = Comparator.comparing(tag -> tag.tagName);
+
+    private final Tag[] tags;
+    private final int hashCode;
+
+    private TagSet(Tag[] tags) {
+        this.tags = tags;
+        int hash = 0;
+        for (Tag tag : tags) {
+            hash += tag.hashCode();
+        }
+        this.hashCode = hash;
+    }
+
+    /**
+     * Returns the empty tag set.
+     */
+    public static TagSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a tag set holding the distinct tags of {@code tags}.
+     * If {@code tags} is already a {@code TagSet}, it is returned as is.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+        if (tags.isEmpty()) {
+            return EMPTY;
+        }
+
+        Tag[] sorted = tags.toArray(NO_TAGS);
+        for (Tag tag : sorted) {
+            requireNonNull(tag);
+        }
+        Arrays.sort(sorted, BY_NAME);
+        int distinctCount = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (!sorted[i].equals(sorted[distinctCount - 1])) {
+                sorted[distinctCount++] = sorted[i];
+            }
+        }
+        return new TagSet(distinctCount == sorted.length ? sorted : Arrays.copyOf(sorted, distinctCount));
+    }
+
+    @Override
+    public int size() {
+        return tags.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tags.length == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (Tag tag : tags) {
+            if (tag == o || tag.equals(o)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < tags.length;
+            }
+
+            @Override
+            public Tag next() {
+                if (next >= tags.length) {
+                    throw new NoSuchElementException();
+                }
+                return tags[next++];
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super Tag> action) {
+        requireNonNull(action);
+        for (Tag tag : tags) {
+            action.accept(tag);
+        }
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TagSet)) {
+            return other instanceof Set && super.equals(other);
+        }
+
+        TagSet otherSet = (TagSet) other;
+        if (hashCode != otherSet.hashCode || tags.length != otherSet.tags.length) {
+            return false;
+        }
+        for (int i = 0; i < tags.length; i++) {
+            // both arrays are sorted by name, so equal sets hold equal tags at every position
+            if (tags[i] != otherSet.tags[i] && !tags[i].equals(otherSet.tags[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * An estimate of the heap memory taken by the address book data, broken down by component.
+ * Created by {@link FootprintEstimator}.
+ */
+public class Footprint {
+
+    /**
+     * The parts of the model whose memory use is estimated.
+     */
+    public enum Component {
+        PERSON_OBJECTS("person and field objects"),
+        STRINGS("strings and other text"),
+        NAME_WORDS("case-folded words of names"),
+        TAG_SETS("tag sets and tags"),
+        PERSON_LISTS("observable and persistent person lists"),
+        UNDO_HISTORY("undo history in memory");
+
+        private final String description;
+
+        Component(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private final int personCount;
+    private final Map<Component, Long> bytesByComponent;
+    private final long duplicateStringBytes;
+
+    Footprint(int personCount, Map<Component, Long> bytesByComponent, long duplicateStringBytes) {
+        requireNonNull(bytesByComponent);
+        this.personCount = personCount;
+        this.bytesByComponent = Collections.unmodifiableMap(new EnumMap<>(bytesByComponent));
+        this.duplicateStringBytes = duplicateStringBytes;
+    }
+
+    public int getPersonCount() {
+        return personCount;
+    }
+
+    public long getBytes(Component component) {
+        return bytesByComponent.getOrDefault(component, 0L);
+    }
+
+    public long getTotalBytes() {
+        return bytesByComponent.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Returns the total bytes divided by the number of persons, or 0 if there are no persons.
+     */
+    public long getBytesPerPerson() {
+        return personCount == 0 ? 0 : getTotalBytes() / personCount;
+    }
+
+    /**
+     * Returns the bytes taken by strings that are equal to another string, but a different object.
+     * These are included in {@code Component.STRINGS} or {@code Component.NAME_WORDS}, and could be saved by sharing
+     * equal strings.
+     */
+    public long getDuplicateStringBytes() {
+        return duplicateStringBytes;
+    }
+
+    /**
+     * Returns the estimate for people to read.
+     */
+    public String format() {
+        long totalBytes = getTotalBytes();
+        StringBuilder report = new StringBuilder(String.format(Locale.ROOT,
+                "Estimated memory use of %d persons: %s (%d bytes per person)",
+                personCount, toMegabytes(totalBytes), getBytesPerPerson()));
+        for (Component component : Component.values()) {
+            long bytes = getBytes(component);
+            report.append(String.format(Locale.ROOT, "\n    %s: %s (%.0f%%)", component.getDescription(),
+                    toMegabytes(bytes), totalBytes == 0 ? 0.0 : 100.0 * bytes / totalBytes));
+        }
+        report.append(String.format(Locale.ROOT, "\n%s of the strings are copies of other strings.",
+                toMegabytes(duplicateStringBytes)));
+        return report.toString();
+    }
+
+    private static String toMegabytes(long bytes) {
+        return String.format(Locale.ROOT, "%.2f MB", bytes / (1024.0 * 1024.0));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Footprint // instanceof handles nulls
+                && personCount == ((Footprint) other).personCount
+                && bytesByComponent.equals(((Footprint) other).bytesByComponent)
+                && duplicateStringBytes == ((Footprint) other).duplicateStringBytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return bytesByComponent.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -0,0 +1,227 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.Footprint.Component;
+
+/**
+ * Estimates the heap memory taken by the persons in an address book, without a Java agent.
+ *
+ * The model is walked through its public accessors, and the size of each object is worked out from the fields of
+ * its class and the object layout of a 64-bit HotSpot JVM with compressed references and compact strings: 12-byte
+ * object headers, 16-byte array headers, 4-byte references and sizes rounded up to a multiple of 8. Objects
+ * reachable from several persons, such as shared strings or tags, are counted once. The sizes of JDK and JavaFX
+ * collections are worked out from their current implementations, so estimates are within a few percent rather
+ * than exact.
+ */
+public class FootprintEstimator {
+
+    static final int OBJECT_HEADER_BYTES = 12;
+    static final int ARRAY_HEADER_BYTES = 16;
+    static final int REFERENCE_BYTES = 4;
+    static final int ALIGNMENT_BYTES = 8;
+
+    /** A {@code String} object: header, array reference, hash, coder and hash-is-zero flag. */
+    static final long STRING_BYTES = 24;
+    /** A node of the AVL tree behind {@code PersistentList}: header, three references and two ints. */
+    static final long PERSISTENT_LIST_NODE_BYTES = 32;
+
+    private final Map<Component, Long> bytesByComponent = new EnumMap<>(Component.class);
+    private final Set<Object> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<String> stringContents = new HashSet<>();
+    private long duplicateStringBytes;
+
+    private FootprintEstimator() {}
+
+    /**
+     * Returns an estimate of the memory taken by the persons in {@code addressBook} and the lists holding them,
+     * together with {@code undoHistoryBytes}, the memory taken by the undo history.
+     */
+    public static Footprint estimate(ReadOnlyAddressBook addressBook, long undoHistoryBytes) {
+        requireNonNull(addressBook);
+        FootprintEstimator estimator = new FootprintEstimator();
+        List<Person> persons = addressBook.getPersonList();
+        for (Person person : persons) {
+            estimator.addPerson(person);
+        }
+        estimator.addPersonLists(persons.size());
+        estimator.add(Component.UNDO_HISTORY, undoHistoryBytes);
+        return new Footprint(persons.size(), estimator.bytesByComponent, estimator.duplicateStringBytes);
+    }
+
+    private void addPerson(Person person) {
+        addObject(Component.PERSON_OBJECTS, person);
+        addName(person.getName());
+        addPhone(person.getPhone());
+        addEmail(person.getEmail());
+        addField(person.getAddress(), person.getAddress().value);
+        addTags(person.getTags());
+    }
+
+    /**
+     * Adds a field holding {@code value}, unless it has been counted already.
+     * Returns true if it was added.
+     */
+    private boolean addField(Object field, String value) {
+        if (!addObject(Component.PERSON_OBJECTS, field)) {
+            return false;
+        }
+        addString(value);
+        return true;
+    }
+
+    /**
+     * Adds a name, and its case-folded words, which are shared with every other name containing them.
+     */
+    private void addName(Name name) {
+        if (addField(name, name.fullName)) {
+            List<String> foldedWords = name.getFoldedWords();
+            add(Component.NAME_WORDS, referenceArrayBytes(foldedWords.size()));
+            for (String word : foldedWords) {
+                addString(Component.NAME_WORDS, word);
+            }
+        }
+    }
+
+    /**
+     * Adds a phone, whose digits are held in the object itself unless the number is too long to fit.
+     */
+    private void addPhone(Phone phone) {
+        if (addObject(Component.PERSON_OBJECTS, phone) && phone.length() > Phone.MAX_DIGITS_IN_LONG) {
+            add(Component.STRINGS, byteArrayBytes((phone.length() + 1) / 2));
+        }
+    }
+
+    /**
+     * Adds an email, its local part held as one byte per character, and its domain, which is shared.
+     */
+    private void addEmail(Email email) {
+        if (addObject(Component.PERSON_OBJECTS, email)) {
+            String domain = email.getDomain();
+            add(Component.STRINGS, byteArrayBytes(email.length() - domain.length() - 1));
+            addString(domain);
+        }
+    }
+
+    /**
+     * Adds the tag set of a person and any of its tags not yet counted.
+     * Tag sets are arrays of tags, except for the empty set, which every person without tags shares.
+     */
+    private void addTags(Set<Tag> tags) {
+        if (addObject(Component.TAG_SETS, tags) && !tags.isEmpty()) {
+            add(Component.TAG_SETS, referenceArrayBytes(tags.size()));
+        }
+        for (Tag tag : tags) {
+            if (addObject(Component.TAG_SETS, tag)) {
+                addString(tag.tagName);
+            }
+        }
+    }
+
+    /**
+     * Adds the lists holding every person: the observable list of the address book, the persistent list published
+     * alongside it, and the index array of the filtered list shown to the user.
+     */
+    private void addPersonLists(int personCount) {
+        add(Component.PERSON_LISTS, referenceArrayBytes(personCount)
+                + personCount * PERSISTENT_LIST_NODE_BYTES
+                + align(ARRAY_HEADER_BYTES + (long) Integer.BYTES * personCount));
+    }
+
+    private void addString(String value) {
+        addString(Component.STRINGS, value);
+    }
+
+    private void addString(Component component, String value) {
+        if (!counted.add(value)) {
+            return;
+        }
+        long bytes = stringBytes(value);
+        add(component, bytes);
+        if (!stringContents.add(value)) {
+            duplicateStringBytes += bytes;
+        }
+    }
+
+    /**
+     * Adds {@code object} under {@code component}, unless it has been counted already.
+     * Returns true if it was added.
+     */
+    private boolean addObject(Component component, Object object) {
+        if (!counted.add(object)) {
+            return false;
+        }
+        add(component, shallowBytes(object.getClass()));
+        return true;
+    }
+
+    private void add(Component component, long bytes) {
+        bytesByComponent.merge(component, bytes, Long::sum);
+    }
+
+    /**
+     * Returns the size of a string and its character array.
+     * Strings whose characters all fit in a byte are stored with one byte per character.
+     */
+    static long stringBytes(String value) {
+        boolean isLatin1 = value.chars().allMatch(c -> c <= 0xFF);
+        return STRING_BYTES + byteArrayBytes(value.length() * (isLatin1 ? 1 : 2));
+    }
+
+    static long byteArrayBytes(int length) {
+        return align(ARRAY_HEADER_BYTES + (long) length);
+    }
+
+    static long referenceArrayBytes(int length) {
+        return align(ARRAY_HEADER_BYTES + (long) REFERENCE_BYTES * length);
+    }
+
+    /**
+     * Returns the size of an object of class {@code type}, excluding the objects it refers to.
+     */
+    static long shallowBytes(Class<?> type) {
+        long bytes = OBJECT_HEADER_BYTES;
+        for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers())) {
+                    bytes += fieldBytes(field.getType());
+                }
+            }
+        }
+        return align(bytes);
+    }
+
+    private static int fieldBytes(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        } else if (type == int.class || type == float.class) {
+            return 4;
+        } else if (type == short.class || type == char.class) {
+            return 2;
+        } else if (type == byte.class || type == boolean.class) {
+            return 1;
+        } else {
+            return REFERENCE_BYTES;
+        }
+    }
+
+    static long align(long bytes) {
+        return (bytes + ALIGNMENT_BYTES - 1) / ALIGNMENT_BYTES * ALIGNMENT_BYTES;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes {@code Person} objects in a compact binary form.
+ * Each field is written as a length-prefixed (modified) UTF-8 string, followed by the number of tags and the tags.
+ * Unlike the JSON storage format, this is only meant for data that is written and read back by the same build.
+ */
+public class PersonCodec {
+
+    /** Rough size of a {@code Person} and its field objects on the heap, excluding the characters themselves. */
+    private static final int PERSON_OVERHEAD_BYTES = 320;
+    private static final int TAG_OVERHEAD_BYTES = 80;
+
+    /**
+     * Writes {@code person} to {@code out}.
+     */
+    public static void write(DataOutput out, Person person) throws IOException {
+        requireNonNull(person);
+        out.writeUTF(person.getName().fullName);
+        out.writeUTF(person.getPhone().getValue());
+        out.writeUTF(person.getEmail().getValue());
+        out.writeUTF(person.getAddress().value);
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeUTF(tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a person previously written by {@link #write(DataOutput, Person)} from {@code in}.
+     */
+    public static Person read(DataInput in) throws IOException {
+        Name name = new Name(in.readUTF());
+        Phone phone = new Phone(in.readUTF());
+        Email email = new Email(in.readUTF());
+        Address address = new Address(in.readUTF());
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(in.readUTF()));
+        }
+        return new Person(name, phone, email, address, tags);
+    }
+
+    /**
+     * Returns an estimate of the number of heap bytes retained by {@code person}.
+     */
+    public static long estimateHeapBytes(Person person) {
+        long chars = person.getName().fullName.length() + person.getPhone().length()
+                + person.getEmail().length() + person.getAddress().value.length();
+        long bytes = PERSON_OVERHEAD_BYTES + chars;
+        for (Tag tag : person.getTags()) {
+            bytes += TAG_OVERHEAD_BYTES + tag.tagName.length();
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,275 @@
+package seedu.address.model.util;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates realistic-looking address books of any size, for benchmarks, load tests and demos.
+ *
+ * The same seed always produces the same persons, in the same order, on any JVM. Every person is derived from the
+ * seed and their own index alone, so a generated address book is a view that creates persons as they are read
+ * rather than a list held in memory.
+ *
+ * Generated data has the skew of real data: a few first names, surnames, streets, email domains and tags are far
+ * more common than the rest, and neighbours often share a street. About one person in {@value #NEAR_DUPLICATE_RATE}
+ * is a near-duplicate: either someone sharing a name with an earlier person, or the previous person again with a
+ * middle initial added to their name. Near-duplicates are never the same person
+ * (see {@link Person#isSamePerson(Person)}) as any other generated person, so generated address books are always valid.
+ */
+public class SyntheticDataGenerator {
+
+    private static final int NEAR_DUPLICATE_RATE = 50;
+
+    private static final String[] FIRST_NAMES = {
+        "Wei Ling", "John", "Mei", "Muhammad", "Alex", "Siti", "David", "Priya", "Jun Jie", "Sarah",
+        "Ahmad", "Hui Min", "Ravi", "Grace", "Daniel", "Nur", "Bernice", "Kumar", "Charlotte", "Irfan",
+        "Roy", "Farhan", "Li Ting", "Oliver", "Elaine", "Muthu", "Qi Xuan", "Zhi Hao", "Aisha", "Benjamin",
+        "Chloe", "Darren", "Fiona", "Gabriel", "Hannah", "Isaac", "Jasmine", "Kelvin", "Lydia", "Marcus"
+    };
+    private static final String[] SURNAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh",
+        "Teo", "Ang", "Yeo", "Tay", "Ho", "Low", "Toh", "Sim", "Chong", "Chia",
+        "Abdullah", "Ibrahim", "Rahman", "Kumar", "Singh", "Pillai", "Nair", "Balakrishnan", "Yu", "Li",
+        "Oliveiro", "Meier", "Kurz", "Best", "Kunz", "Pauline", "Yeoh", "Fernandez", "Smith", "Brown"
+    };
+    private static final String[] STREETS = {
+        "Ang Mo Kio Street 74", "Tampines Street 20", "Serangoon Gardens Street 26", "Geylang Street 29",
+        "Aljunied Street 85", "Clementi Ave 2", "Jurong West Street 91", "Bedok North Road",
+        "Toa Payoh Lorong 1", "Woodlands Drive 14", "Yishun Ring Road", "Hougang Avenue 8",
+        "Pasir Ris Drive 6", "Bukit Batok West Ave 6", "Choa Chu Kang Loop", "Sengkang East Way",
+        "Punggol Field", "Bishan Street 13", "Queenstown Road", "Marine Parade Central",
+        "Lorong 3 Serangoon Gardens", "Holland Drive", "Telok Blangah Crescent", "Bukit Merah View",
+        "Kallang Bahru", "Sembawang Close", "Boon Lay Place", "Simei Street 1", "Eunos Crescent", "Kent Road"
+    };
+    private static final String[] EMAIL_DOMAINS = {
+        "gmail.com", "example.com", "yahoo.com", "hotmail.com", "u.nus.edu", "outlook.com", "icloud.com",
+        "singnet.com.sg", "comp.nus.edu.sg", "mail.com"
+    };
+    private static final String[] TAGS = {
+        "friends", "colleagues", "family", "neighbours", "classmates", "owesMoney", "cca", "gym", "project",
+        "client", "supplier", "mentor", "teammate", "hostel", "church", "football", "choir", "alumni",
+        "doctor", "landlord"
+    };
+    private static final String MIDDLE_INITIALS = "ABCDEFGHJKLMNPRSTW";
+
+    private static final double[] FIRST_NAME_WEIGHTS = zipfWeights(FIRST_NAMES.length);
+    private static final double[] SURNAME_WEIGHTS = zipfWeights(SURNAMES.length);
+    private static final double[] STREET_WEIGHTS = zipfWeights(STREETS.length);
+    private static final double[] EMAIL_DOMAIN_WEIGHTS = zipfWeights(EMAIL_DOMAINS.length);
+    private static final double[] TAG_WEIGHTS = zipfWeights(TAGS.length);
+
+    /** Phone numbers are a permutation of this many 8-digit numbers starting with 8 or 9. */
+    private static final long PHONE_RANGE = 20_000_000L;
+    private static final long PHONE_MULTIPLIER = 7_919L; // coprime with PHONE_RANGE
+
+    private final long seed;
+
+    /**
+     * Creates a generator whose output is determined by {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the {@code index}-th generated person.
+     */
+    public Person getPerson(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        Random random = randomFor(index);
+        if (index > 0 && random.nextInt(NEAR_DUPLICATE_RATE) == 0) {
+            return createNearDuplicate(index, random);
+        }
+        return createPerson(index, random);
+    }
+
+    /**
+     * Returns the first {@code count} generated persons as a list held in memory.
+     */
+    public List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            persons.add(getPerson(i));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book holding the first {@code count} generated persons.
+     * Persons are created each time they are read, so the address book itself takes almost no memory. It can be
+     * passed straight to any {@code AddressBookStorage} to save generated data without first building an
+     * {@code AddressBook}, which would check every added person against all others.
+     */
+    public ReadOnlyAddressBook generateAddressBook(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("Count must not be negative: " + count);
+        }
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(new AbstractList<Person>() {
+                    @Override
+                    public Person get(int index) {
+                        if (index >= count) {
+                            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + count);
+                        }
+                        return getPerson(index);
+                    }
+
+                    @Override
+                    public int size() {
+                        return count;
+                    }
+                }));
+        return () -> persons;
+    }
+
+    private Person createPerson(int index, Random random) {
+        String name = pick(FIRST_NAMES, FIRST_NAME_WEIGHTS, random) + " " + pick(SURNAMES, SURNAME_WEIGHTS, random);
+        return new Person(new Name(name), createPhone(index), createEmail(name, index, random),
+                createAddress(random), createTags(random));
+    }
+
+    /**
+     * Returns a person resembling an earlier one.
+     * If the previous person is not a near-duplicate themselves, then half the time the result is that person with a
+     * middle initial added. Since no other person shares their phone and email, the two are still different persons.
+     * Otherwise, the result has the name of a random earlier person, but their own phone, email and address.
+     */
+    private Person createNearDuplicate(int index, Random random) {
+        int previous = index - 1;
+        boolean isPreviousRegular = previous == 0 || randomFor(previous).nextInt(NEAR_DUPLICATE_RATE) != 0;
+        if (isPreviousRegular && random.nextBoolean()) {
+            Person original = createPerson(previous, skipNearDuplicateDraw(previous));
+            String[] nameParts = original.getName().fullName.split(" ", 2);
+            String name = nameParts[0] + " " + MIDDLE_INITIALS.charAt(random.nextInt(MIDDLE_INITIALS.length()))
+                    + " " + nameParts[1];
+            return new Person(new Name(name), original.getPhone(), original.getEmail(),
+                    original.getAddress(), original.getTags());
+        }
+
+        int originalIndex = random.nextInt(index);
+        Person original = createPerson(originalIndex, skipNearDuplicateDraw(originalIndex));
+        return new Person(original.getName(), createPhone(index),
+                createEmail(original.getName().fullName, index, random), createAddress(random), createTags(random));
+    }
+
+    /**
+     * Returns the random generator of the person at {@code index}, positioned just after the draw that decides
+     * whether they are a near-duplicate.
+     */
+    private Random skipNearDuplicateDraw(int index) {
+        Random random = randomFor(index);
+        if (index > 0) {
+            random.nextInt(NEAR_DUPLICATE_RATE);
+        }
+        return random;
+    }
+
+    /**
+     * Returns a phone number unique to {@code index}.
+     */
+    private Phone createPhone(int index) {
+        long scrambled = (index * PHONE_MULTIPLIER + seed) % PHONE_RANGE;
+        if (scrambled < 0) {
+            scrambled += PHONE_RANGE;
+        }
+        long number = index < PHONE_RANGE ? 80_000_000L + scrambled : 8_000_000_000L + index;
+        return new Phone(String.valueOf(number));
+    }
+
+    /**
+     * Returns an email address based on {@code name}, made unique to {@code index} with a suffix.
+     */
+    private Email createEmail(String name, int index, Random random) {
+        String localPart = name.toLowerCase().replace(' ', '.') + "." + Integer.toString(index, Character.MAX_RADIX);
+        return new Email(localPart + "@" + pick(EMAIL_DOMAINS, EMAIL_DOMAIN_WEIGHTS, random));
+    }
+
+    private Address createAddress(Random random) {
+        int block = 1 + random.nextInt(60);
+        String street = pick(STREETS, STREET_WEIGHTS, random);
+        int floor = 1 + random.nextInt(25);
+        int unit = 1 + random.nextInt(120);
+        return new Address("Blk " + block + " " + street + ", #" + twoDigits(floor) + "-" + twoDigits(unit));
+    }
+
+    private static String twoDigits(int value) {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+
+    /**
+     * Returns up to three distinct tags; most persons have none or one.
+     */
+    private Set<Tag> createTags(Random random) {
+        int tagCount = 0;
+        while (tagCount < 3 && random.nextInt(2) == 0) {
+            tagCount++;
+        }
+        if (tagCount == 0) {
+            return Collections.emptySet();
+        }
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(Tag.of(pick(TAGS, TAG_WEIGHTS, random)));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns a random generator for the person at {@code index}.
+     * {@code java.util.Random} is used because its algorithm is fixed by its specification.
+     */
+    private Random randomFor(int index) {
+        return new Random(mix(seed * 0x9E3779B97F4A7C15L + index));
+    }
+
+    /**
+     * Scrambles the bits of {@code value}, so that generators for neighbouring indexes are unrelated.
+     */
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static String pick(String[] values, double[] cumulativeWeights, Random random) {
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (target < cumulativeWeights[i]) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    /**
+     * Returns cumulative weights under which the {@code k}-th of {@code n} values is picked with a probability
+     * proportional to {@code 1 / (k + 1)}.
+     */
+    private static double[] zipfWeights(int n) {
+        double[] weights = new double[n];
+        double total = 0;
+        for (int k = 0; k < n; k++) {
+            total += 1.0 / (k + 1);
+            weights[k] = total;
+        }
+        return weights;
+    }
+}
@@ -1,12 +1,14 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -19,15 +21,23 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ *
+ * The address is either held inline, or as {@code addressIndex}, the position of an address in the list of shared
+ * addresses kept by {@link JsonSerializableAddressBook}. Only one of the two is written.
  */
 class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String UNKNOWN_ADDRESS_MESSAGE_FORMAT = "Person's address refers to shared address %d, "
+            + "which does not exist!";
 
     private final String name;
     private final String phone;
     private final String email;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private final String address;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final Integer addressIndex;
     private final List<JsonAdaptedTag> tagged = new ArrayList<>();
 
     /**
@@ -36,24 +46,42 @@ class JsonAdaptedPerson {
     @JsonCreator
     public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
             @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
+            @JsonProperty("addressIndex") Integer addressIndex, @JsonProperty("tagged") List<JsonAdaptedTag> tagged) {
         this.name = name;
         this.phone = phone;
         this.email = email;
         this.address = address;
+        this.addressIndex = addressIndex;
         if (tagged != null) {
             this.tagged.addAll(tagged);
         }
     }
 
     /**
-     * Converts a given {@code Person} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and an inline address.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address, List<JsonAdaptedTag> tagged) {
+        this(name, phone, email, address, null, tagged);
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use, with its address inline.
      */
     public JsonAdaptedPerson(Person source) {
+        this(source, null);
+    }
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use.
+     *
+     * @param addressIndex the position of the person's address in the shared addresses, or null to hold it inline.
+     */
+    public JsonAdaptedPerson(Person source, Integer addressIndex) {
         name = source.getName().fullName;
-        phone = source.getPhone().value;
-        email = source.getEmail().value;
-        address = source.getAddress().value;
+        phone = source.getPhone().getValue();
+        email = source.getEmail().getValue();
+        address = addressIndex == null ? source.getAddress().value : null;
+        this.addressIndex = addressIndex;
         tagged.addAll(source.getTags().stream()
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
@@ -65,6 +93,16 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(Collections.emptyList());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, looking up
+     * {@code addressIndex}, if the address is not inline, in {@code sharedAddresses}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(List<Address> sharedAddresses) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tagged) {
             personTags.add(tag.toModelType());
@@ -94,16 +132,27 @@ class JsonAdaptedPerson {
         }
         final Email modelEmail = new Email(email);
 
+        final Address modelAddress = toModelAddress(sharedAddresses);
+
+        final Set<Tag> modelTags = new HashSet<>(personTags);
+        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+    }
+
+    private Address toModelAddress(List<Address> sharedAddresses) throws IllegalValueException {
+        if (address == null && addressIndex != null) {
+            if (addressIndex < 0 || addressIndex >= sharedAddresses.size()) {
+                throw new IllegalValueException(String.format(UNKNOWN_ADDRESS_MESSAGE_FORMAT, addressIndex));
+            }
+            return sharedAddresses.get(addressIndex);
+        }
+
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
-
-        final Set<Tag> modelTags = new HashSet<>(personTags);
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags);
+        return new Address(address);
     }
 
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -10,6 +11,7 @@ import java.util.logging.Logger;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.AddressBookStorageEvent;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -45,17 +47,24 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        AddressBookStorageEvent event = createEvent(AddressBookStorageEvent.OPERATION_READ, filePath);
+        event.begin();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+
+            ReadOnlyAddressBook addressBook = jsonAddressBook.get().toModelType();
+            event.setRecordCount(addressBook.getPersonList().size());
+            event.setSucceeded(true);
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
+        } finally {
+            commitEvent(event, filePath);
         }
     }
 
@@ -73,8 +82,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        AddressBookStorageEvent event = createEvent(AddressBookStorageEvent.OPERATION_SAVE, filePath);
+        event.setRecordCount(addressBook.getPersonList().size());
+        event.begin();
+        try {
+            FileUtil.createIfMissing(filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+            event.setSucceeded(true);
+        } finally {
+            commitEvent(event, filePath);
+        }
+    }
+
+    private static AddressBookStorageEvent createEvent(String operation, Path filePath) {
+        AddressBookStorageEvent event = new AddressBookStorageEvent();
+        event.setOperation(operation);
+        event.setPath(filePath.toString());
+        return event;
+    }
+
+    /**
+     * Commits {@code event}, with the size of the file at {@code filePath}, if it is being recorded.
+     */
+    private static void commitEvent(AddressBookStorageEvent event, Path filePath) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        try {
+            event.setBytes(Files.size(filePath));
+        } catch (IOException ioe) {
+            event.setBytes(0); // the file is missing or unreadable
+        }
+        event.commit();
     }
 
 }
@@ -1,20 +1,28 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * Addresses used by more than one person, such as those of persons living together, are written once to the list of
+ * shared addresses, and those persons refer to them by position and share one {@code Address} once read. Other
+ * addresses are written inline, so files without shared addresses are unchanged.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
@@ -22,13 +30,19 @@ class JsonSerializableAddressBook {
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    private final List<String> addresses = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and shared addresses.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons) {
+    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+            @JsonProperty("addresses") List<String> addresses) {
         this.persons.addAll(persons);
+        if (addresses != null) {
+            this.addresses.addAll(addresses);
+        }
     }
 
     /**
@@ -37,7 +51,26 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+        List<Person> sourcePersons = source.getPersonList();
+        Map<Address, Integer> useCounts = new HashMap<>();
+        for (Person person : sourcePersons) {
+            useCounts.merge(person.getAddress(), 1, Integer::sum);
+        }
+
+        Map<Address, Integer> sharedIndexes = new HashMap<>();
+        for (Person person : sourcePersons) {
+            Address address = person.getAddress();
+            Integer index = null;
+            if (useCounts.get(address) > 1) {
+                index = sharedIndexes.get(address);
+                if (index == null) {
+                    index = addresses.size();
+                    addresses.add(address.value);
+                    sharedIndexes.put(address, index);
+                }
+            }
+            persons.add(new JsonAdaptedPerson(person, index));
+        }
     }
 
     /**
@@ -46,13 +79,24 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        List<Address> sharedAddresses = new ArrayList<>(addresses.size());
+        for (String address : addresses) {
+            if (address == null || !Address.isValidAddress(address)) {
+                throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
             }
-            addressBook.addPerson(person);
+            sharedAddresses.add(new Address(address));
+        }
+
+        List<Person> modelPersons = new ArrayList<>(persons.size());
+        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+            modelPersons.add(jsonAdaptedPerson.toModelType(sharedAddresses));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
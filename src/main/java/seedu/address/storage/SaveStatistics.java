@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Counts saves of address book data and remembers how the last one went.
+ * Saves are recorded on the thread that makes them, but may be read from any thread.
+ */
+public class SaveStatistics {
+
+    private long saveCount;
+    private long failedSaveCount;
+    private long lastSaveNanos;
+    private long lastSaveBytes;
+    private boolean isLastSaveFailed;
+
+    /**
+     * Records a save to {@code filePath} that took {@code nanos} nanoseconds.
+     * @param isSaved false if the save failed.
+     */
+    synchronized void recordSave(boolean isSaved, long nanos, Path filePath) {
+        saveCount++;
+        lastSaveNanos = nanos;
+        isLastSaveFailed = !isSaved;
+        if (!isSaved) {
+            failedSaveCount++;
+            return;
+        }
+        try {
+            lastSaveBytes = Files.size(filePath);
+        } catch (IOException ioe) {
+            lastSaveBytes = 0; // the file was removed or made unreadable right after being written
+        }
+    }
+
+    public synchronized long getSaveCount() {
+        return saveCount;
+    }
+
+    public synchronized long getFailedSaveCount() {
+        return failedSaveCount;
+    }
+
+    /**
+     * Returns how long the last save took, whether or not it succeeded, or zero if there has been none.
+     */
+    public synchronized long getLastSaveNanos() {
+        return lastSaveNanos;
+    }
+
+    /**
+     * Returns the size of the file written by the last successful save, or zero if there has been none.
+     */
+    public synchronized long getLastSaveBytes() {
+        return lastSaveBytes;
+    }
+
+    /**
+     * Returns true if the last save failed, so that the data in memory has changes that are not on disk.
+     * Every command saves the whole address book, so a single successful save clears this.
+     */
+    public synchronized boolean isDirty() {
+        return isLastSaveFailed;
+    }
+}
@@ -19,6 +19,7 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final SaveStatistics saveStatistics = new SaveStatistics();
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
@@ -59,7 +60,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -70,8 +71,22 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
+        long start = System.nanoTime();
+        boolean isSaved = false;
+        try {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            isSaved = true;
+        } finally {
+            saveStatistics.recordSave(isSaved, System.nanoTime() - start, filePath);
+        }
+    }
+
+    /**
+     * Returns statistics on the saves of address book data made through this.
+     */
+    public SaveStatistics getSaveStatistics() {
+        return saveStatistics;
     }
 
 }
@@ -0,0 +1,97 @@
+package seedu.address;
+
+import static seedu.address.testutil.AllocationMeter.assertAllocatesAtMost;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.PersonUtil;
+
+/**
+ * Checks that parsing, executing and saving commands allocate no more than they did when these budgets were set, so
+ * that changes which make them allocate much more fail the build.
+ *
+ * Budgets are about twice what was measured, which leaves room for differences between JVMs and JavaFX versions.
+ * When a change makes something allocate less, lower its budget to match.
+ */
+public class AllocationBudgetTest {
+
+    private static final int BOOK_SIZE = 1000;
+
+    @TempDir
+    public Path testFolder;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new SyntheticDataGenerator(1).generatePersons(BOOK_SIZE));
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Test
+    public void parseCommand_withinBudget() throws Throwable {
+        assertParseWithinBudget(32_000, PersonUtil.getAddCommand(AMY));
+        assertParseWithinBudget(12_000, "edit 1 n/Amy Bee p/91234567");
+        assertParseWithinBudget(1_000, "delete 1");
+        assertParseWithinBudget(4_000, "find alice bob");
+        assertParseWithinBudget(500, ListCommand.COMMAND_WORD);
+    }
+
+    @Test
+    public void execute_readOnlyCommands_withinBudget() throws Throwable {
+        assertExecuteWithinBudget(32_000, ListCommand.COMMAND_WORD);
+        assertExecuteWithinBudget(16 * BOOK_SIZE, "find Wei Tan");
+    }
+
+    @Test
+    public void execute_changingCommands_withinBudget() throws Throwable {
+        assertExecuteWithinBudget(64_000, PersonUtil.getAddCommand(AMY));
+        assertExecuteWithinBudget(40_000, "delete 1");
+        assertExecuteWithinBudget(64_000, "edit 1 a/Blk 1 Somewhere Else, #01-01");
+    }
+
+    @Test
+    public void storage_withinBudget() throws Throwable {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        assertAllocatesAtMost(2_600 * BOOK_SIZE, "Saving " + BOOK_SIZE + " persons", () ->
+                storage.saveAddressBook(model.getAddressBook()));
+        assertAllocatesAtMost(30_000 * BOOK_SIZE, "Reading " + BOOK_SIZE + " persons", storage::readAddressBook);
+    }
+
+    private void assertParseWithinBudget(long budgetBytes, String commandText) throws Throwable {
+        assertAllocatesAtMost(budgetBytes, "Parsing \"" + commandText + "\"", () -> parser.parseCommand(commandText));
+    }
+
+    /**
+     * Asserts that executing {@code commandText} allocates at most {@code budgetBytes}.
+     * Changes made by the command are undone between runs, unmeasured, so that every run starts from the same book.
+     */
+    private void assertExecuteWithinBudget(long budgetBytes, String commandText) throws Throwable {
+        Command command = parser.parseCommand(commandText);
+        Executable undoPreviousRun = () -> {
+            if (model.canUndoAddressBook()) {
+                model.undoAddressBook();
+            }
+            model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        };
+        assertAllocatesAtMost(budgetBytes, "Executing \"" + commandText + "\" on " + BOOK_SIZE + " persons",
+                undoPreviousRun, () -> command.execute(model));
+    }
+}
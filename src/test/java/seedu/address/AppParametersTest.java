@@ -37,6 +37,20 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validFlightRecordingPath_success() {
+        parametersStub.namedParameters.put("jfr", "recording.jfr");
+        expected.setFlightRecordingPath(Paths.get("recording.jfr"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidFlightRecordingPath_success() {
+        parametersStub.namedParameters.put("jfr", "a\0");
+        expected.setFlightRecordingPath(null);
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
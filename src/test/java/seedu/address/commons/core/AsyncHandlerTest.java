@@ -0,0 +1,187 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncHandler.OverflowPolicy;
+
+public class AsyncHandlerTest {
+
+    private final RecordingHandler target = new RecordingHandler();
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncHandler(0, OverflowPolicy.BLOCK, target));
+    }
+
+    @Test
+    public void publish_severalRecords_writtenInOrderWithLoggerAsSource() {
+        AsyncHandler handler = new AsyncHandler(4, OverflowPolicy.BLOCK, target);
+        for (int i = 0; i < 10; i++) {
+            handler.publish(createRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+
+        assertEquals(10, target.getMessages().size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals("message " + i, target.getMessages().get(i));
+        }
+        assertEquals("TestLogger", target.records.get(0).getSourceClassName());
+        assertTrue(target.isClosed);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        AsyncHandler handler = new AsyncHandler(4, OverflowPolicy.BLOCK, target);
+        handler.setLevel(Level.INFO);
+        handler.publish(createRecord(Level.FINE, "fine"));
+        handler.publish(createRecord(Level.INFO, "info"));
+        handler.flush();
+
+        assertEquals(Collections.singletonList("info"), target.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_queueFullWithDropPolicy_recordsDroppedAndReported() throws Exception {
+        target.blockWrites();
+        AsyncHandler handler = new AsyncHandler(2, OverflowPolicy.DROP, target);
+        handler.publish(createRecord(Level.INFO, "first"));
+        target.awaitBlockedWrite();
+
+        // "first" takes up room until it has been written, so only one more fits
+        for (int i = 0; i < 5; i++) {
+            handler.publish(createRecord(Level.INFO, "queued " + i));
+        }
+        assertEquals(4, handler.getDroppedCount());
+
+        target.unblockWrites();
+        handler.close();
+        List<String> messages = target.getMessages();
+        assertEquals("first", messages.get(0));
+        assertEquals("queued 0", messages.get(1));
+        assertTrue(messages.get(2).startsWith("4 log records were dropped"));
+    }
+
+    @Test
+    public void publish_queueFullWithBlockPolicy_waitsForRoom() throws Exception {
+        target.blockWrites();
+        AsyncHandler handler = new AsyncHandler(1, OverflowPolicy.BLOCK, target);
+        handler.publish(createRecord(Level.INFO, "first"));
+        target.awaitBlockedWrite();
+
+        Thread logger = new Thread(() -> {
+            for (int i = 0; i < 3; i++) {
+                handler.publish(createRecord(Level.INFO, "waiting " + i));
+            }
+        });
+        logger.start();
+        logger.join(100);
+        assertTrue(logger.isAlive()); // still waiting for room
+
+        target.unblockWrites();
+        logger.join();
+        handler.close();
+        assertEquals(4, target.getMessages().size());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void idle_afterWrite_targetsFlushedOnce() throws Exception {
+        AsyncHandler handler = new AsyncHandler(4, OverflowPolicy.BLOCK, target);
+        handler.publish(createRecord(Level.INFO, "only"));
+        handler.flush();
+
+        // flushed once by flush() and once by the writer when the queue ran empty
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (target.flushCount.get() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        Thread.sleep(200);
+        assertEquals(2, target.flushCount.get());
+        handler.close();
+    }
+
+    @Test
+    public void publish_afterClose_ignored() {
+        AsyncHandler handler = new AsyncHandler(4, OverflowPolicy.BLOCK, target);
+        handler.close();
+        handler.publish(createRecord(Level.INFO, "late"));
+        assertFalse(target.getMessages().contains("late"));
+    }
+
+    private static LogRecord createRecord(Level level, String message) {
+        LogRecord record = new LogRecord(level, message);
+        record.setLoggerName("TestLogger");
+        return record;
+    }
+
+    /**
+     * A handler that keeps the records it is given, and can be made to hold up the first write.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch writeStarted = new CountDownLatch(1);
+        private final CountDownLatch writesAllowed = new CountDownLatch(1);
+        private final AtomicInteger flushCount = new AtomicInteger();
+        private volatile boolean isBlocking;
+        private volatile boolean isClosed;
+
+        void blockWrites() {
+            isBlocking = true;
+        }
+
+        void awaitBlockedWrite() throws InterruptedException {
+            assertTrue(writeStarted.await(5, TimeUnit.SECONDS));
+        }
+
+        void unblockWrites() {
+            writesAllowed.countDown();
+        }
+
+        List<String> getMessages() {
+            List<String> messages = new ArrayList<>();
+            synchronized (records) {
+                records.forEach(record -> messages.add(record.getMessage()));
+            }
+            return messages;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            if (isBlocking) {
+                writeStarted.countDown();
+                try {
+                    writesAllowed.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushCount.incrementAndGet();
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.logging.Handler;
+import java.util.logging.Logger;
+
+import org.junit.jupiter.api.Test;
+
+public class LogsCenterTest {
+
+    @Test
+    public void getLogger_sameName_sameLoggerWithOneAsyncHandler() {
+        Logger logger = LogsCenter.getLogger(LogsCenterTest.class);
+        assertSame(logger, LogsCenter.getLogger(LogsCenterTest.class.getSimpleName()));
+
+        Handler[] handlers = logger.getHandlers();
+        assertEquals(1, handlers.length);
+        assertEquals(AsyncHandler.class, handlers[0].getClass());
+    }
+}
@@ -0,0 +1,81 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class OffHeapRecordStoreTest {
+
+    private final OffHeapRecordStore store = new OffHeapRecordStore(256);
+
+    @Test
+    public void constructor_invalidSlabSize_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapRecordStore(16));
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapRecordStore(1000));
+    }
+
+    @Test
+    public void add_recordLargerThanSlab_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> store.add(new byte[253], 253));
+        assertThrows(IllegalArgumentException.class, () -> store.add(new byte[10], 11));
+    }
+
+    @Test
+    public void addAndRead_roundTrip() {
+        byte[] record = {1, 2, 3, 4, 5};
+        long handle = store.add(record, 3);
+        long emptyHandle = store.add(record, 0);
+        byte[] read = new byte[8];
+        assertEquals(3, store.read(handle, read));
+        assertArrayEquals(new byte[] {1, 2, 3}, Arrays.copyOf(read, 3));
+        assertEquals(0, store.length(emptyHandle));
+        assertTrue(store.startsWith(handle, new byte[] {1, 2, 9}, 2));
+        assertFalse(store.startsWith(handle, new byte[] {1, 3}, 2));
+        assertFalse(store.startsWith(handle, record, 4));
+        assertThrows(IllegalArgumentException.class, () -> store.read(handle, new byte[2]));
+    }
+
+    @Test
+    public void free_blocksReused() {
+        long first = store.add(new byte[40], 40);
+        store.add(new byte[40], 40);
+        store.free(first);
+        assertEquals(first, store.add(new byte[50], 50)); // a block of the same size
+        assertEquals(2, store.getRecordCount());
+        assertEquals(90, store.getRecordBytes());
+    }
+
+    @Test
+    public void manyRecords_allKeptAcrossSlabs() {
+        Random random = new Random(1);
+        Map<Long, byte[]> records = new HashMap<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!records.isEmpty() && random.nextInt(3) == 0) {
+                long handle = records.keySet().iterator().next();
+                store.free(handle);
+                records.remove(handle);
+            } else {
+                byte[] record = new byte[random.nextInt(200)];
+                random.nextBytes(record);
+                records.put(store.add(record, record.length), record);
+            }
+        }
+
+        byte[] read = new byte[256];
+        for (Map.Entry<Long, byte[]> entry : records.entrySet()) {
+            int length = store.read(entry.getKey(), read);
+            assertArrayEquals(entry.getValue(), Arrays.copyOf(read, length));
+        }
+        assertEquals(records.size(), store.getRecordCount());
+        assertTrue(store.getOffHeapBytes() >= store.getRecordBytes());
+    }
+}
@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+public class ParallelFilterTest {
+
+    private static final int[] SIZES = {0, 1, 63, 64, 65, ParallelFilter.MIN_CHUNK_SIZE - 1,
+        ParallelFilter.MIN_CHUNK_SIZE, ParallelFilter.MIN_CHUNK_SIZE + 1, 10_000, 65_537, 200_003};
+
+    @Test
+    public void filter_null_throwsNullPointerException() {
+        ParallelFilter filter = new ParallelFilter(0, 2);
+        assertThrows(NullPointerException.class, () -> filter.filter(null, value -> true));
+        assertThrows(NullPointerException.class, () -> filter.filter(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void isParallel() {
+        ParallelFilter filter = new ParallelFilter(100_000, 4);
+        assertFalse(filter.isParallel(99_999)); // below the threshold
+        assertTrue(filter.isParallel(100_000));
+
+        // no more than one chunk
+        assertFalse(new ParallelFilter(0, 4).isParallel(ParallelFilter.MIN_CHUNK_SIZE));
+
+        // a single thread
+        assertFalse(new ParallelFilter(0, 1).isParallel(1_000_000));
+    }
+
+    @Test
+    public void getParallelism_zeroOrLess_commonPoolParallelism() {
+        assertEquals(ForkJoinPool.getCommonPoolParallelism(),
+                new ParallelFilter(0, 0).getParallelism());
+        assertEquals(3, new ParallelFilter(0, 3).getParallelism());
+    }
+
+    @Test
+    public void constructor_sameParallelism_poolShared() {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism() + 2;
+        assertSame(new ParallelFilter(0, parallelism).getPool(), new ParallelFilter(100, parallelism).getPool());
+        assertNotSame(new ParallelFilter(0, parallelism).getPool(), new ParallelFilter(0, parallelism + 1).getPool());
+        assertSame(ForkJoinPool.commonPool(), new ParallelFilter(0, 0).getPool());
+    }
+
+    @Test
+    public void filter_randomLists_sameAsSequentialFilter() {
+        Random random = new Random(1);
+        Predicate<Integer> isEven = value -> value % 2 == 0;
+        for (int size : SIZES) {
+            List<Integer> list = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                list.add(random.nextInt(size + 1));
+            }
+            BitSet expected = new BitSet();
+            for (int i = 0; i < size; i++) {
+                if (isEven.test(list.get(i))) {
+                    expected.set(i);
+                }
+            }
+            for (int parallelism : new int[] {0, 1, 2, 3, 8}) {
+                assertEquals(expected, new ParallelFilter(0, parallelism).filter(list, isEven),
+                        "size " + size + ", parallelism " + parallelism);
+            }
+        }
+    }
+
+    @Test
+    public void filter_parallel_everyElementTestedOnce() {
+        List<Integer> list = Collections.nCopies(100_000, 1);
+        AtomicInteger testCount = new AtomicInteger();
+        BitSet matches = new ParallelFilter(0, 4).filter(list, value -> testCount.incrementAndGet() > 0);
+        assertEquals(list.size(), testCount.get());
+        assertEquals(list.size(), matches.cardinality());
+    }
+
+    @Test
+    public void filter_predicateThrows_exceptionPropagated() {
+        List<Integer> list = Collections.nCopies(100_000, 1);
+        assertThrows(IllegalStateException.class, () -> new ParallelFilter(0, 4).filter(list, value -> {
+            throw new IllegalStateException();
+        }));
+    }
+}
@@ -0,0 +1,102 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(Collections.emptyList(), PersistentList.empty());
+    }
+
+    @Test
+    public void copyOf_list_sameElementsInOrder() {
+        List<Integer> elements = Arrays.asList(5, 3, 8, 1, 9, 2);
+        assertEquals(elements, PersistentList.copyOf(elements));
+    }
+
+    @Test
+    public void copyOf_persistentList_returnsSameInstance() {
+        PersistentList<Integer> list = PersistentList.copyOf(Arrays.asList(1, 2, 3));
+        assertTrue(list == PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void operations_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(Arrays.asList("a", "b", "c"));
+
+        assertEquals(Arrays.asList("a", "b", "c", "d"), original.append("d"));
+        assertEquals(Arrays.asList("a", "x", "b", "c"), original.insert(1, "x"));
+        assertEquals(Arrays.asList("a", "x", "c"), original.replace(1, "x"));
+        assertEquals(Arrays.asList("a", "c"), original.removeAt(1));
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+    }
+
+    @Test
+    public void operations_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.insert(3, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.replace(-1, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.removeAt(2));
+    }
+
+    @Test
+    public void javaUtilListMutators_throwUnsupportedOperationException() {
+        PersistentList<String> list = PersistentList.copyOf(Arrays.asList("a", "b"));
+        assertThrows(UnsupportedOperationException.class, () -> list.add("c"));
+        assertThrows(UnsupportedOperationException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void randomOperations_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(4);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.insert(index, i);
+            } else if (operation == 1) {
+                expected.add(i);
+                actual = actual.append(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.replace(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.removeAt(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        // earlier versions are unaffected by later operations
+        assertEquals(expectedVersions, versions);
+    }
+}
@@ -1,7 +1,10 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
@@ -123,6 +126,44 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for foldCase --------------------------------------
+
+    @Test
+    public void foldCase_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.foldCase(null));
+    }
+
+    @Test
+    public void foldCase_unchanged_sameInstance() {
+        String folded = "abc 123 \u00e9";
+        assertSame(folded, StringUtil.foldCase(folded));
+    }
+
+    @Test
+    public void foldCase_validInputs_correctResult() {
+        assertEquals("", StringUtil.foldCase(""));
+        assertEquals("abc def", StringUtil.foldCase("AbC dEF"));
+        assertEquals("k", StringUtil.foldCase("\u212A")); // Kelvin sign
+        assertEquals("s", StringUtil.foldCase("\u017F")); // long s
+        assertEquals("i", StringUtil.foldCase("\u0131")); // dotless i
+        assertEquals("\uD801\uDC28", StringUtil.foldCase("\uD801\uDC00")); // supplementary character
+    }
+
+    @Test
+    public void foldCase_everyCharacterPairOfNames_equalIfEqualIgnoringCase() {
+        // every character of a valid name, against every character
+        String nameCharacters = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ";
+        for (char nameCharacter : nameCharacters.toCharArray()) {
+            String name = String.valueOf(nameCharacter);
+            for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+                String other = String.valueOf((char) c);
+                if (name.equalsIgnoreCase(other) != StringUtil.foldCase(name).equals(StringUtil.foldCase(other))) {
+                    fail("Different result from equalsIgnoreCase for U+" + Integer.toHexString(c));
+                }
+            }
+        }
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,54 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+public class ValidationUtilTest {
+
+    @Test
+    public void isAsciiAlphanumeric_everyCharacter_sameAsRegex() {
+        assertSameAsRegexForEveryCharacter("\\p{Alnum}", ValidationUtil::isAsciiAlphanumeric);
+        assertSameAsRegexForEveryCharacter("[^\\W_]", ValidationUtil::isAsciiAlphanumeric);
+    }
+
+    @Test
+    public void isAsciiLetter_everyCharacter_sameAsRegex() {
+        assertSameAsRegexForEveryCharacter("[a-zA-Z]", ValidationUtil::isAsciiLetter);
+    }
+
+    @Test
+    public void isAsciiDigit_everyCharacter_sameAsRegex() {
+        assertSameAsRegexForEveryCharacter("\\d", ValidationUtil::isAsciiDigit);
+    }
+
+    @Test
+    public void isWordCharacter_everyCharacter_sameAsRegex() {
+        assertSameAsRegexForEveryCharacter("\\w", ValidationUtil::isWordCharacter);
+    }
+
+    @Test
+    public void isWhitespace_everyCharacter_sameAsRegex() {
+        assertSameAsRegexForEveryCharacter("\\s", ValidationUtil::isWhitespace);
+    }
+
+    @Test
+    public void isLineTerminator_everyCharacter_sameAsRegex() {
+        assertSameAsRegexForEveryCharacter("(?!.)[\\s\\S]", ValidationUtil::isLineTerminator);
+    }
+
+    /**
+     * Asserts that {@code characterClass} tests every {@code char} the same way as {@code regex} does.
+     */
+    private void assertSameAsRegexForEveryCharacter(String regex, Predicate<Character> characterClass) {
+        Pattern pattern = Pattern.compile(regex);
+        for (int c = Character.MIN_VALUE; c <= Character.MAX_VALUE; c++) {
+            if (pattern.matcher(String.valueOf((char) c)).matches() != characterClass.test((char) c)) {
+                fail("Different result from " + regex + " for U+" + Integer.toHexString(c));
+            }
+        }
+    }
+}
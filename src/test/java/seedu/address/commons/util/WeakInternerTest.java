@@ -0,0 +1,78 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assumeCollected;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<Value> interner = new WeakInterner<>(value -> value.key);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeakInterner<String>(null));
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null, Value::new));
+        assertThrows(NullPointerException.class, () -> interner.intern("key", null));
+    }
+
+    @Test
+    public void intern_sameKey_sameInstance() {
+        Value value = interner.intern("key", Value::new);
+        assertSame(value, interner.intern(new String("key"), Value::new));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingAdded() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern("invalid", key -> {
+            throw new IllegalArgumentException();
+        }));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_valueStillReferenced_notCreatedAgain() {
+        Value value = interner.intern(new String("referenced"), Value::new);
+        System.gc();
+        assertSame(value, interner.intern(new String("referenced"), key -> {
+            throw new AssertionError("The referenced value should still be interned");
+        }));
+    }
+
+    @Test
+    public void intern_unusedValue_collectedAndCreatedAgain() throws InterruptedException {
+        WeakReference<Value> reference = new WeakReference<>(
+                interner.intern(new String("unused"), Value::new));
+        assumeCollected(reference);
+
+        AtomicInteger createdCount = new AtomicInteger();
+        Value value = interner.intern(new String("unused"), key -> {
+            createdCount.incrementAndGet();
+            return new Value(key);
+        });
+        assertEquals(1, createdCount.get());
+        assertSame(value, interner.intern("unused", Value::new));
+        assertEquals(1, interner.size());
+    }
+
+    /**
+     * A value that holds its own key.
+     */
+    private static class Value {
+        private final String key;
+
+        Value(String key) {
+            this.key = key;
+        }
+    }
+}
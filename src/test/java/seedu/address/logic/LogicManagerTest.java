@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -12,15 +13,23 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.commandlog.CommandLog;
+import seedu.address.logic.commandlog.CommandLogEntry;
+import seedu.address.logic.commandlog.CommandLogEntry.Outcome;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -88,6 +97,59 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_commands_phasesRecorded() throws Exception {
+        CommandMetrics metrics = new CommandMetrics();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionAddressBook.json"));
+        StorageManager storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, metrics);
+
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertThrows(CommandException.class, () -> logic.execute(ListCommand.COMMAND_WORD));
+
+        assertEquals(1, metrics.getCount(CommandMetrics.UNPARSED_COMMAND_TYPE));
+        assertEquals(0, metrics.getHistogram(CommandMetrics.UNPARSED_COMMAND_TYPE, Phase.EXECUTE).getCount());
+        String listType = ListCommand.class.getSimpleName();
+        assertEquals(1, metrics.getCount(listType));
+        assertEquals(1, metrics.getHistogram(listType, Phase.EXECUTE).getCount());
+        assertEquals(1, metrics.getHistogram(listType, Phase.PERSIST).getCount());
+    }
+
+    @Test
+    public void execute_statsCommand_showsRecordedCommands() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        CommandResult result = logic.execute(StatsCommand.COMMAND_WORD);
+        assertTrue(result.getFeedbackToUser().contains(ListCommand.class.getSimpleName() + ": 1 runs"));
+    }
+
+    @Test
+    public void execute_commands_loggedWithOutcomeAndVersion() throws Exception {
+        List<CommandLogEntry> entries = new ArrayList<>();
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage, new CommandMetrics(), CommandLog.inMemory(entries));
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY;
+        logic.execute(addCommand);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+        assertThrows(CommandException.class, () -> logic.execute("delete 9"));
+        logic.execute("delete 1");
+
+        assertEquals(4, entries.size());
+        assertEquals(addCommand, entries.get(0).getCommand());
+        assertEquals(Outcome.SUCCESS, entries.get(0).getOutcome());
+        assertEquals(1, entries.get(0).getVersion());
+        assertEquals(Outcome.PARSE_ERROR, entries.get(1).getOutcome());
+        assertEquals(1, entries.get(1).getVersion());
+        assertEquals(Outcome.COMMAND_ERROR, entries.get(2).getOutcome());
+        assertEquals(1, entries.get(2).getVersion());
+        assertEquals(Outcome.SUCCESS, entries.get(3).getOutcome());
+        assertEquals(2, entries.get(3).getVersion());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -0,0 +1,92 @@
+package seedu.address.logic.commandlog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commandlog.CommandLogEntry.Outcome;
+import seedu.address.logic.commandlog.CommandLogReplayer.ReplayResult;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandLogReplayerTest {
+
+    private static final List<String> COMMANDS = Arrays.asList(
+            AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY,
+            "delete 1", "undo", "delete 99", "nonsense", "find Amy", "clear", "redo");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void replay_recordedSession_sameOutcomesAndVersions() {
+        List<CommandLogEntry> recorded = record(COMMANDS);
+
+        ReplayResult result = new CommandLogReplayer(getTypicalAddressBook(), testFolder).replay(recorded);
+
+        assertEquals(COMMANDS.size(), result.getReplayedEntries().size());
+        assertEquals(Collections.emptyList(), result.getDivergentIndexes());
+        assertTrue(result.format().contains("Every command had the same outcome"));
+        assertEquals(Outcome.COMMAND_ERROR, result.getReplayedEntries().get(3).getOutcome());
+        assertEquals(Outcome.PARSE_ERROR, result.getReplayedEntries().get(4).getOutcome());
+    }
+
+    @Test
+    public void replay_differentStartingData_divergenceReported() {
+        List<CommandLogEntry> recorded = record(Arrays.asList("list", "delete 3"));
+
+        // "delete 3" fails on an empty address book
+        ReplayResult result = new CommandLogReplayer(new ModelManager().getAddressBook(), testFolder).replay(recorded);
+
+        assertEquals(Collections.singletonList(1), result.getDivergentIndexes());
+        assertEquals(Outcome.COMMAND_ERROR, result.getReplayedEntries().get(1).getOutcome());
+        assertTrue(result.format().contains("#2 recorded: "));
+    }
+
+    @Test
+    public void replay_entryFromFile_replayed() {
+        CommandLogEntry entry = new CommandLogEntry(Instant.now(), "list", 1, Outcome.SUCCESS, 0);
+        ReplayResult result = new CommandLogReplayer(getTypicalAddressBook(), testFolder)
+                .replay(Collections.singletonList(entry));
+        assertEquals(Collections.emptyList(), result.getDivergentIndexes());
+    }
+
+    /**
+     * Runs {@code commands} as the app would, starting from the typical address book, and returns the log.
+     */
+    private List<CommandLogEntry> record(List<String> commands) {
+        List<CommandLogEntry> entries = new ArrayList<>();
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab.json")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs.json")));
+        LogicManager logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage,
+                new CommandMetrics(), CommandLog.inMemory(entries));
+        for (String command : commands) {
+            try {
+                logic.execute(command);
+            } catch (Exception e) {
+                // recorded as the outcome
+            }
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,73 @@
+package seedu.address.logic.commandlog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.logic.commandlog.CommandLogEntry.Outcome;
+
+public class CommandLogTest {
+
+    private static final CommandLogEntry LIST_ENTRY =
+            new CommandLogEntry(Instant.parse("2019-10-19T10:15:30.123Z"), "list", 1_500_000, Outcome.SUCCESS, 0);
+    private static final CommandLogEntry ADD_ENTRY = new CommandLogEntry(Instant.parse("2019-10-19T10:15:31Z"),
+            "add n/\"Jane \\\"J\\\" Roe\" p/91234567", 42, Outcome.PARSE_ERROR, 3);
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void open_appendThenRead_sameEntries() throws Exception {
+        Path filePath = testFolder.resolve("logs").resolve("commands.jsonl");
+        try (CommandLog log = CommandLog.open(filePath)) {
+            log.append(LIST_ENTRY);
+        }
+        try (CommandLog log = CommandLog.open(filePath)) {
+            log.append(ADD_ENTRY); // appended to the existing log
+        }
+
+        assertEquals(2, Files.readAllLines(filePath).size());
+        assertEquals(Arrays.asList(LIST_ENTRY, ADD_ENTRY), CommandLog.read(filePath));
+    }
+
+    @Test
+    public void inMemory_append_addedToList() {
+        List<CommandLogEntry> entries = new ArrayList<>();
+        CommandLog log = CommandLog.inMemory(entries);
+        log.append(LIST_ENTRY);
+        log.close();
+        assertEquals(Arrays.asList(LIST_ENTRY), entries);
+    }
+
+    @Test
+    public void read_blankLines_skipped() throws Exception {
+        Path filePath = testFolder.resolve("commands.jsonl");
+        try (CommandLog log = CommandLog.open(filePath)) {
+            log.append(LIST_ENTRY);
+        }
+        Files.write(filePath, Arrays.asList("", "  "), StandardOpenOption.APPEND);
+        assertEquals(Arrays.asList(LIST_ENTRY), CommandLog.read(filePath));
+    }
+
+    @Test
+    public void read_invalidLine_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("commands.jsonl");
+        Files.write(filePath, Arrays.asList("{\"time\":\"yesterday\",\"command\":\"list\",\"nanos\":1,"
+                + "\"outcome\":\"SUCCESS\",\"version\":0}"));
+        assertThrows(DataConversionException.class, () -> CommandLog.read(filePath));
+
+        Files.write(filePath, Arrays.asList("not json"));
+        assertThrows(DataConversionException.class, () -> CommandLog.read(filePath));
+    }
+}
@@ -0,0 +1,59 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.deleteFirstPerson;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @BeforeEach
+    public void setUp() {
+        // set up of models' undo/redo history
+        deleteFirstPerson(model);
+        deleteFirstPerson(model);
+
+        deleteFirstPerson(expectedModel);
+        deleteFirstPerson(expectedModel);
+    }
+
+    @Test
+    public void execute() throws Exception {
+        // multiple undoable states in model
+        expectedModel.undoAddressBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // single undoable state in model
+        expectedModel.undoAddressBook();
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // no undoable states in model
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_historyUnreadable_throwsCommandException() {
+        Model unreadableHistoryModel = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void undoAddressBook() throws IOException {
+                throw new IOException("disk error");
+            }
+        };
+        deleteFirstPerson(unreadableHistoryModel);
+
+        assertCommandFailure(new UndoCommand(), unreadableHistoryModel,
+                String.format(UndoCommand.MESSAGE_HISTORY_UNREADABLE, "disk error"));
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.logic.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.loadtest.CommandMix.Kind;
+
+public class CommandMixTest {
+
+    @Test
+    public void parse_validMix_weightsParsed() {
+        CommandMix mix = CommandMix.parse(" add=3, FIND=1,list=0");
+        assertEquals(3, mix.getWeight(Kind.ADD));
+        assertEquals(1, mix.getWeight(Kind.FIND));
+        assertEquals(0, mix.getWeight(Kind.LIST));
+        assertEquals(0, mix.getWeight(Kind.DELETE));
+        assertEquals("add=3,find=1,list=0", mix.toString());
+        assertEquals(mix, CommandMix.parse(mix.toString()));
+    }
+
+    @Test
+    public void parse_invalidMix_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, CommandMix.MESSAGE_CONSTRAINTS, () -> CommandMix.parse(""));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("add"));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("undo=1"));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("add=x"));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("add=-1,list=2"));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("add=1,add=2"));
+        assertThrows(IllegalArgumentException.class, () -> CommandMix.parse("add=0,list=0"));
+    }
+
+    @Test
+    public void pick_weightedMix_proportionalToWeights() {
+        CommandMix mix = CommandMix.parse("add=1,find=3");
+        Random random = new Random(1);
+        Map<Kind, Integer> counts = new EnumMap<>(Kind.class);
+        for (int i = 0; i < 4000; i++) {
+            counts.merge(mix.pick(random), 1, Integer::sum);
+        }
+        assertEquals(2, counts.size());
+        assertTrue(Math.abs(counts.get(Kind.FIND) - 3000) < 150);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.loadtest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.loadtest.CommandMix.Kind;
+
+public class LoadTestRunnerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_invalidSettings_throwsIllegalArgumentException() {
+        CommandMix mix = CommandMix.parse(CommandMix.DEFAULT_MIX);
+        assertThrows(IllegalArgumentException.class, () -> new LoadTestRunner(-1, mix, 1,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), testFolder));
+        assertThrows(IllegalArgumentException.class, () -> new LoadTestRunner(1, mix, 0,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), testFolder));
+        assertThrows(IllegalArgumentException.class, () -> new LoadTestRunner(1, mix, 1,
+                Duration.ofSeconds(1), Duration.ZERO, testFolder));
+    }
+
+    @Test
+    public void run_defaultMix_everyKindRunWithoutFailures() {
+        LoadTestReport report = new LoadTestRunner(200, CommandMix.parse(CommandMix.DEFAULT_MIX), 500,
+                Duration.ofMillis(400), Duration.ofMillis(100), testFolder).run();
+
+        assertEquals(200, report.getCommandCount());
+        for (Kind kind : Kind.values()) {
+            assertTrue(report.getResponseTimes(kind).getCount() > 0, kind.toString());
+            assertEquals(0, report.getFailureCount(kind), kind.toString());
+        }
+        long windowedCount = report.getWindows().stream().mapToLong(LoadTestReport.Window::getCommandCount).sum();
+        assertEquals(report.getCommandCount(), windowedCount);
+        assertTrue(report.getWindows().size() >= 2);
+
+        String formatted = report.format();
+        assertTrue(formatted.contains("p99.9"));
+        assertTrue(formatted.contains("Heap after full GC"));
+        assertTrue(formatted.contains("By window"));
+    }
+
+    @Test
+    public void run_onlyDeletes_listRunOnceBookIsEmpty() {
+        LoadTestReport report = new LoadTestRunner(5, CommandMix.parse("delete=1"), 1000,
+                Duration.ofMillis(20), Duration.ofSeconds(1), testFolder).run();
+
+        assertEquals(5, report.getResponseTimes(Kind.DELETE).getCount());
+        assertEquals(15, report.getResponseTimes(Kind.LIST).getCount());
+        assertEquals(0, report.getWindows().get(0).getPersonCount());
+    }
+}
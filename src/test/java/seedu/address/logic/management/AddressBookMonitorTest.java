@@ -0,0 +1,128 @@
+package seedu.address.logic.management;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.metrics.CommandMetrics;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookMonitorTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ModelManager model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final CommandMetrics metrics = new CommandMetrics();
+    private StorageManager storage;
+    private AddressBookMonitor monitor;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        monitor = new AddressBookMonitor(model, storage, metrics, Runnable::run);
+    }
+
+    @Test
+    public void getters_typicalAddressBook_returnModelState() {
+        int tagCount = (int) model.getAddressBook().getPersonList().stream()
+                .flatMap(person -> person.getTags().stream()).distinct().count();
+
+        assertEquals(getTypicalAddressBook().getPersonList().size(), monitor.getPersonCount());
+        assertEquals(tagCount, monitor.getTagCount());
+        assertEquals(monitor.getPersonCount(), monitor.getFilteredPersonCount());
+        assertEquals(0, monitor.getSaveCount());
+        assertFalse(monitor.isDirty());
+    }
+
+    @Test
+    public void getCounts_appThreadBusy_readFromSnapshot() {
+        // an executor that never runs its tasks, like an app thread that is busy for good
+        AddressBookMonitor busyMonitor = new AddressBookMonitor(model, storage, metrics, task -> { });
+        int tagCount = busyMonitor.getTagCount();
+
+        model.addPerson(new PersonBuilder(AMY).withTags("unusedElsewhere").build());
+
+        assertEquals(getTypicalAddressBook().getPersonList().size() + 1, busyMonitor.getPersonCount());
+        assertEquals(tagCount + 1, busyMonitor.getTagCount());
+    }
+
+    @Test
+    public void save_typicalAddressBook_savedToFile() throws Exception {
+        monitor.save();
+        assertEquals(1, monitor.getSaveCount());
+        assertEquals(Files.size(storage.getAddressBookFilePath()), monitor.getLastSaveBytes());
+    }
+
+    @Test
+    public void compactUndoHistory_severalEntries_movedToDisk() {
+        for (Person person : new Person[] {AMY, BOB}) {
+            model.addPerson(person);
+            model.commitAddressBook();
+        }
+        monitor.compactUndoHistory();
+        assertEquals(1, monitor.getSpilledUndoHistoryEntryCount());
+    }
+
+    @Test
+    public void getCommandCounts_recordedCommands_countedByType() {
+        metrics.record("ListCommand", Phase.PARSE, 1);
+        metrics.record("ListCommand", Phase.PARSE, 1);
+        assertEquals(Map.of("ListCommand", 2L), monitor.getCommandCounts());
+        assertTrue(monitor.getCommandRates().get("ListCommand") > 0);
+    }
+
+    @Test
+    public void save_unwritableFile_throwsIllegalStateException() {
+        // the address book file is a directory, so it cannot be written
+        StorageManager unwritableStorage = new StorageManager(new JsonAddressBookStorage(temporaryFolder),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        AddressBookMonitor failingMonitor = new AddressBookMonitor(model, unwritableStorage, metrics, Runnable::run);
+
+        assertThrows(IllegalStateException.class, failingMonitor::save);
+        assertTrue(failingMonitor.isDirty());
+    }
+
+    @Test
+    public void register_mbeanServer_attributesAndOperationsAvailable() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        ObjectName name = new ObjectName(AddressBookMonitor.OBJECT_NAME);
+        metrics.record("ListCommand", Phase.PARSE, 1);
+
+        monitor.register(server);
+        assertEquals(monitor.getPersonCount(), server.getAttribute(name, "PersonCount"));
+        assertEquals(false, server.getAttribute(name, "Dirty"));
+        assertEquals(1, ((TabularData) server.getAttribute(name, "CommandCounts")).size());
+        server.invoke(name, "save", new Object[0], new String[0]);
+        assertEquals(1L, server.getAttribute(name, "SaveCount"));
+
+        monitor.unregister(server);
+        assertFalse(server.isRegistered(name));
+        monitor.unregister(server); // unregistering twice is harmless
+    }
+}
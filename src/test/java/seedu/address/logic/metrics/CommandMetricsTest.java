@@ -0,0 +1,69 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.metrics.CommandMetrics.Phase;
+
+public class CommandMetricsTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CommandMetrics metrics = new CommandMetrics(clock::get);
+
+    @Test
+    public void commandTypeOf_command_returnsClassName() {
+        assertEquals("ListCommand", CommandMetrics.commandTypeOf(new ListCommand()));
+    }
+
+    @Test
+    public void record_severalTypes_keptSeparately() {
+        metrics.record("b", Phase.PARSE, 10);
+        metrics.record("a", Phase.PARSE, 20);
+        metrics.record("a", Phase.EXECUTE, 30);
+        metrics.record("a", Phase.PARSE, 40);
+
+        assertEquals(Arrays.asList("a", "b"), metrics.getCommandTypes());
+        assertEquals(2, metrics.getCount("a"));
+        assertEquals(1, metrics.getCount("b"));
+        assertEquals(40, metrics.getHistogram("a", Phase.PARSE).getMax());
+        assertEquals(30, metrics.getHistogram("a", Phase.EXECUTE).getMax());
+        assertEquals(0, metrics.getHistogram("a", Phase.PERSIST).getCount());
+        assertEquals(0, metrics.getCount("unknown"));
+    }
+
+    @Test
+    public void getThroughput_overTenSeconds_averaged() {
+        for (int i = 0; i < 5; i++) {
+            metrics.record("a", Phase.PARSE, 1);
+        }
+        clock.set(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(0.5, metrics.getThroughput("a"), 1e-9);
+    }
+
+    @Test
+    public void format_noCommands_returnsNoCommandsMessage() {
+        assertEquals(CommandMetrics.MESSAGE_NO_COMMANDS, metrics.format());
+    }
+
+    @Test
+    public void format_recordedCommands_listsRecordedPhases() {
+        metrics.record("a", Phase.PARSE, 1_000_000);
+        metrics.record("a", Phase.EXECUTE, 2_000_000);
+        clock.set(TimeUnit.MINUTES.toNanos(1));
+
+        String report = metrics.format();
+        assertTrue(report.contains("over the last 1.0 minutes"));
+        assertTrue(report.contains("a: 1 runs, 0.017 per second"));
+        assertTrue(report.contains("parse    p50 1.000, p99 1.000, max 1.000"));
+        assertTrue(report.contains("execute  p50 2.000, p99 2.000, max 2.000"));
+        assertFalse(report.contains("persist"));
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getValueAtPercentile_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(100.5));
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 20; i++) {
+            histogram.record(i);
+        }
+        assertEquals(20, histogram.getCount());
+        assertEquals(10, histogram.getValueAtPercentile(50));
+        assertEquals(20, histogram.getValueAtPercentile(99));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(20, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L); // 1 ms to 1 s
+        }
+        assertWithinSixteenth(500_000_000L, histogram.getValueAtPercentile(50));
+        assertWithinSixteenth(990_000_000L, histogram.getValueAtPercentile(99));
+        assertEquals(1_000_000_000L, histogram.getMax());
+        assertEquals(1_000_000_000L, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_outOfRangeValues_clamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertTrue(histogram.getValueAtPercentile(100) > 0);
+    }
+
+    @Test
+    public void bucketOf_everyBucket_containsItsHighestValue() {
+        for (int bucket = 0; bucket < LatencyHistogram.BUCKET_COUNT; bucket++) {
+            long highest = LatencyHistogram.highestValueIn(bucket);
+            assertEquals(bucket, LatencyHistogram.bucketOf(highest));
+            if (bucket < LatencyHistogram.BUCKET_COUNT - 1) {
+                assertEquals(bucket + 1, LatencyHistogram.bucketOf(highest + 1));
+            }
+        }
+    }
+
+    @Test
+    public void copy_laterRecords_notReflected() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        LatencyHistogram copy = histogram.copy();
+        histogram.record(200);
+        assertEquals(1, copy.getCount());
+        assertEquals(100, copy.getMax());
+    }
+
+    private static void assertWithinSixteenth(long expected, long actual) {
+        assertTrue(Math.abs(expected - actual) <= expected / 16, "expected about " + expected + " but was " + actual);
+    }
+}
@@ -136,6 +136,61 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_quotedValues() {
+        // Prefixes inside quotes are not recognized
+        String argsString = "SomePreambleString p/\"value -t with p/ prefixes\" -t dashT-Value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, pSlash, "value -t with p/ prefixes");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+
+        // Spaces around and inside the quotes
+        argsString = " p/   \"  padded \"  ^Q\"\"";
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT, hatQ);
+        assertArgumentPresent(argMultimap, pSlash, "  padded ");
+        assertArgumentPresent(argMultimap, hatQ, "");
+
+        // Escaped quotes and backslashes
+        argsString = " p/\"say \\\"hi\\\" p/ c:\\\\\"";
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash);
+        assertArgumentPresent(argMultimap, pSlash, "say \"hi\" p/ c:\\");
+    }
+
+    @Test
+    public void tokenize_quotesNotWrappingWholeValue_takenAsIs() {
+        // Quotes in the middle of a value
+        String argsString = " p/Blk \"5\" road -t x";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertArgumentPresent(argMultimap, pSlash, "Blk \"5\" road");
+
+        // Text after the closing quote
+        argsString = " p/\"Blk 5\" road -t x";
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertArgumentPresent(argMultimap, pSlash, "\"Blk 5\" road");
+        assertArgumentPresent(argMultimap, dashT, "x");
+
+        // Unterminated quote: prefixes after it are still recognized
+        argsString = " p/\"Blk 5 -t x";
+        argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, dashT);
+        assertArgumentPresent(argMultimap, pSlash, "\"Blk 5");
+        assertArgumentPresent(argMultimap, dashT, "x");
+
+        // Quotes in the preamble are not special
+        argsString = "\"pre -t amble\"";
+        argMultimap = ArgumentTokenizer.tokenize(argsString, dashT);
+        assertPreamblePresent(argMultimap, "\"pre");
+        assertArgumentPresent(argMultimap, dashT, "amble\"");
+    }
+
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixRecognized() {
+        Prefix dashTt = new Prefix("-tt");
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize("pre -ttvalue -t other", dashT, dashTt);
+        assertArgumentPresent(argMultimap, dashTt, "value");
+        assertArgumentPresent(argMultimap, dashT, "other");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,61 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.ListCommand;
+
+public class CommandRegistryTest {
+
+    private final CommandRegistry registry = CommandRegistry.createDefault();
+
+    @Test
+    public void createDefault_builtInCommandsRegistered() {
+        assertTrue(registry.getCommandWords().contains(AddCommand.COMMAND_WORD));
+        assertTrue(registry.getCommandWords().contains(ListCommand.COMMAND_WORD));
+        assertNull(registry.getParser("unknownCommand"));
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.register(ClearCommand.COMMAND_WORD, CommandRegistry.ignoringArguments(new ClearCommand())));
+    }
+
+    @Test
+    public void register_nullParser_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> registry.register("purge", null));
+    }
+
+    @Test
+    public void registerAlias_knownCommand_sharesParser() {
+        registry.registerAlias("a", AddCommand.COMMAND_WORD);
+        assertSame(registry.getParser(AddCommand.COMMAND_WORD), registry.getParser("a"));
+    }
+
+    @Test
+    public void registerAlias_unknownCommand_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> registry.registerAlias("a", "unknownCommand"));
+    }
+
+    @Test
+    public void registerAlias_aliasTaken_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.registerAlias(ClearCommand.COMMAND_WORD, ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void ignoringArguments_returnsSameCommand() throws Exception {
+        Command command = new ListCommand();
+        Parser<Command> parser = CommandRegistry.ignoringArguments(command);
+        assertSame(command, parser.parse(""));
+        assertSame(command, parser.parse(" 3"));
+    }
+}
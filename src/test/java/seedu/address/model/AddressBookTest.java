@@ -9,10 +9,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
@@ -83,6 +89,92 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getSnapshot_afterMutation_previousSnapshotUnchanged() {
+        addressBook.addPerson(ALICE);
+        AddressBookSnapshot before = addressBook.getSnapshot();
+        addressBook.removePerson(ALICE);
+
+        assertEquals(Collections.singletonList(ALICE), before.getPersonList());
+        assertEquals(Collections.emptyList(), addressBook.getSnapshot().getPersonList());
+        assertEquals(before.getVersion() + 1, addressBook.getSnapshot().getVersion());
+    }
+
+    @Test
+    public void getSnapshot_modifyList_throwsUnsupportedOperationException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(UnsupportedOperationException.class, () -> addressBook.getSnapshot().getPersonList().remove(0));
+    }
+
+    @Test
+    public void getSnapshot_concurrentWriter_readersNeverSeeTornState() throws Exception {
+        final int generations = 500;
+        final int generationSize = 20;
+        final int readerCount = 4;
+        Person extra = new PersonBuilder().withName("Extra Person").withPhone("999").withEmail("extra@example.com")
+                .build();
+        AtomicBoolean writerDone = new AtomicBoolean(false);
+        ExecutorService executor = Executors.newFixedThreadPool(readerCount);
+
+        // Every state the writer publishes holds one full generation, optionally followed by the extra person.
+        List<Future<Integer>> readers = new ArrayList<>();
+        for (int i = 0; i < readerCount; i++) {
+            readers.add(executor.submit(() -> {
+                long lastVersion = -1;
+                int snapshotsChecked = 0;
+                while (!writerDone.get() || snapshotsChecked == 0) {
+                    AddressBookSnapshot snapshot = addressBook.getSnapshot();
+                    assertTrue(snapshot.getVersion() >= lastVersion, "versions must not go backwards");
+                    lastVersion = snapshot.getVersion();
+                    assertConsistentGeneration(snapshot.getPersonList(), generationSize, extra);
+                    snapshotsChecked++;
+                }
+                return snapshotsChecked;
+            }));
+        }
+
+        for (int generation = 1; generation <= generations; generation++) {
+            addressBook.setPersons(createGeneration(generation, generationSize));
+            addressBook.addPerson(extra);
+            addressBook.removePerson(extra);
+        }
+        writerDone.set(true);
+
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        for (Future<Integer> reader : readers) {
+            assertTrue(reader.get() > 0); // rethrows any assertion failure from the reader
+        }
+        assertEquals(generations * 3, addressBook.getSnapshot().getVersion());
+    }
+
+    /**
+     * Returns {@code size} distinct persons, all tagged with {@code generation}.
+     */
+    private static List<Person> createGeneration(int generation, int size) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone("1000" + i)
+                    .withEmail("person" + i + "@example.com").withTags("gen" + generation).build());
+        }
+        return persons;
+    }
+
+    /**
+     * Asserts that {@code persons} is either empty or a single complete generation created by
+     * {@link #createGeneration(int, int)}, optionally followed by {@code extra}.
+     */
+    private static void assertConsistentGeneration(List<Person> persons, int generationSize, Person extra) {
+        if (persons.isEmpty()) {
+            return;
+        }
+        boolean hasExtra = persons.get(persons.size() - 1).equals(extra);
+        assertEquals(hasExtra ? generationSize + 1 : generationSize, persons.size());
+        for (int i = 0; i < generationSize; i++) {
+            assertEquals(persons.get(0).getTags(), persons.get(i).getTags());
+        }
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class ColumnarAddressBookTest {
+
+    @Test
+    public void of_typicalAddressBook_samePersons() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        ColumnarAddressBook columnarAddressBook = ColumnarAddressBook.of(typicalAddressBook);
+        assertEquals(typicalAddressBook.getPersonList(), columnarAddressBook.getPersonList());
+        assertEquals(typicalAddressBook, new AddressBook(columnarAddressBook));
+        assertEquals(ALICE, columnarAddressBook.getPerson(0));
+    }
+
+    @Test
+    public void of_emptyAddressBook_noPersons() {
+        ColumnarAddressBook columnarAddressBook = ColumnarAddressBook.of(new AddressBook());
+        assertEquals(0, columnarAddressBook.size());
+        assertEquals(Collections.emptyList(), columnarAddressBook.getPersonList());
+        assertEquals(Collections.emptyList(), columnarAddressBook.find(Arrays.asList("Alice")));
+    }
+
+    @Test
+    public void getPerson_nonAsciiFields_roundTrip() {
+        Person person = new PersonBuilder().withAddress("北京市 東城区, Straße 5")
+                .withTags("friends", "colleagues").build();
+        ColumnarAddressBook columnarAddressBook = new ColumnarAddressBook.Builder().add(person).build();
+        assertEquals(person, columnarAddressBook.getPerson(0));
+    }
+
+    @Test
+    public void getPerson_invalidIndex_throwsIndexOutOfBoundsException() {
+        ColumnarAddressBook columnarAddressBook = ColumnarAddressBook.of(getTypicalAddressBook());
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarAddressBook.getPerson(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarAddressBook.getPerson(
+                columnarAddressBook.size()));
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() {
+        ColumnarAddressBook columnarAddressBook = ColumnarAddressBook.of(getTypicalAddressBook());
+        assertThrows(UnsupportedOperationException.class, () -> columnarAddressBook.getPersonList().remove(0));
+    }
+
+    @Test
+    public void find_sameResultsAsPredicate() {
+        List<Person> persons = new SyntheticDataGenerator(1).generatePersons(2000);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        ColumnarAddressBook columnarAddressBook = ColumnarAddressBook.of(addressBook);
+
+        List<List<String>> keywordLists = Arrays.asList(
+                Arrays.asList(persons.get(0).getName().fullName.split(" ")),
+                Arrays.asList(persons.get(1000).getName().fullName.toUpperCase().split(" ")),
+                Arrays.asList("  wei  ", "TAN"),
+                Arrays.asList("\u212Aumar"), // the Kelvin sign is the letter K, ignoring case
+                Arrays.asList("Nobody"),
+                Collections.emptyList());
+        for (List<String> keywords : keywordLists) {
+            List<Person> expected = persons.stream()
+                    .filter(new NameContainsKeywordsPredicate(keywords))
+                    .collect(Collectors.toList());
+            assertEquals(expected, columnarAddressBook.find(keywords), "keywords " + keywords);
+        }
+        assertTrue(columnarAddressBook.find(Arrays.asList("wei")).size() > 0);
+        assertTrue(columnarAddressBook.find(Arrays.asList("\u212Aumar")).size() > 0);
+    }
+
+    @Test
+    public void find_invalidKeywords_throwsIllegalArgumentException() {
+        ColumnarAddressBook columnarAddressBook = ColumnarAddressBook.of(getTypicalAddressBook());
+        assertThrows(NullPointerException.class, () -> columnarAddressBook.find(null));
+        assertThrows(IllegalArgumentException.class, () -> columnarAddressBook.find(Arrays.asList(" ")));
+        assertThrows(IllegalArgumentException.class, () -> columnarAddressBook.find(Arrays.asList("alice pauline")));
+    }
+
+    @Test
+    public void build_calledTwice_throwsIllegalStateException() {
+        ColumnarAddressBook.Builder builder = new ColumnarAddressBook.Builder();
+        builder.build();
+        assertThrows(IllegalStateException.class, builder::build);
+        assertThrows(IllegalStateException.class, () -> builder.add(ALICE));
+    }
+}
@@ -10,12 +10,16 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +97,33 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void updateFilteredPersonList_parallel_sameAsSequential() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new SyntheticDataGenerator(1).generatePersons(20_000));
+        UserPrefs parallelPrefs = new UserPrefs();
+        parallelPrefs.setParallelFilterThreshold(0);
+        parallelPrefs.setParallelFilterParallelism(4);
+        UserPrefs sequentialPrefs = new UserPrefs();
+        sequentialPrefs.setParallelFilterParallelism(1);
+        ModelManager parallelModel = new ModelManager(addressBook, parallelPrefs);
+        ModelManager sequentialModel = new ModelManager(addressBook, sequentialPrefs);
+
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("Wei", "Tan"));
+        parallelModel.updateFilteredPersonList(predicate);
+        sequentialModel.updateFilteredPersonList(predicate);
+        assertEquals(new ArrayList<>(sequentialModel.getFilteredPersonList()),
+                new ArrayList<>(parallelModel.getFilteredPersonList()));
+
+        // persons changed afterwards are tested with the predicate itself
+        Person unmatched = parallelModel.getAddressBook().getPersonList().stream()
+                .filter(predicate.negate()).findFirst().get();
+        Person matched = new Person(new Name("Wei Tan"), unmatched.getPhone(),
+                unmatched.getEmail(), unmatched.getAddress(), unmatched.getTags());
+        parallelModel.setPerson(unmatched, matched);
+        assertTrue(parallelModel.getFilteredPersonList().contains(matched));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TextColumnTest {
+
+    @Test
+    public void add_manyValues_allKept() {
+        TextColumn column = new TextColumn();
+        for (int i = 0; i < 1000; i++) {
+            column.add("value " + i);
+        }
+        column.add("");
+        column.trimToSize();
+        assertEquals(1001, column.size());
+        assertEquals("value 0", column.get(0));
+        assertEquals("value 999", column.get(999));
+        assertEquals("", column.get(1000));
+    }
+
+    @Test
+    public void containsWordIgnoreCase() {
+        TextColumn column = new TextColumn();
+        column.add("Alice  Pauline\tTan");
+        column.add("");
+        column.add("Zoë Alice");
+
+        assertTrue(column.containsWordIgnoreCase(0, "alice"));
+        assertTrue(column.containsWordIgnoreCase(0, "PAULINE"));
+        assertTrue(column.containsWordIgnoreCase(0, "tan"));
+        assertFalse(column.containsWordIgnoreCase(0, "Ali")); // not a whole word
+        assertFalse(column.containsWordIgnoreCase(0, "AlicePauline"));
+        assertFalse(column.containsWordIgnoreCase(1, "alice"));
+
+        // values that are not ASCII are matched as strings
+        assertTrue(column.containsWordIgnoreCase(2, "ZOË"));
+        assertTrue(column.containsWordIgnoreCase(2, "alice"));
+        assertFalse(column.containsWordIgnoreCase(2, "Zoe"));
+    }
+}
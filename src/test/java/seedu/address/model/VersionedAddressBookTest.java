@@ -0,0 +1,262 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class VersionedAddressBookTest {
+
+    private final VersionedAddressBook versionedAddressBook =
+            new VersionedAddressBook(new AddressBookBuilder().withPerson(ALICE).build());
+
+    @Test
+    public void constructor_noHistory() {
+        assertFalse(versionedAddressBook.canUndo());
+        assertFalse(versionedAddressBook.canRedo());
+        assertEquals(Collections.singletonList(ALICE), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_thenUndo_restoresPreviousState() throws IOException {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+
+        assertTrue(versionedAddressBook.canUndo());
+        versionedAddressBook.undo();
+        assertEquals(Collections.singletonList(ALICE), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_thenRedo_restoresUndoneState() throws IOException {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.setPerson(AMY, BOB);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(ALICE, AMY), versionedAddressBook.getPersonList());
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(ALICE, BOB), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void commit_afterUndo_discardsRedoableStates() throws IOException {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+        assertFalse(versionedAddressBook.canRedo());
+
+        versionedAddressBook.undo();
+        assertEquals(Collections.singletonList(ALICE), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void undo_restoredState_isSnapshotOfCommittedState() throws IOException {
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        versionedAddressBook.undo();
+
+        assertEquals(Collections.singletonList(ALICE), versionedAddressBook.getSnapshot().getPersonList());
+        assertTrue(versionedAddressBook.hasPerson(ALICE));
+    }
+
+    @Test
+    public void undo_afterClear_restoresAllPersons() throws IOException {
+        VersionedAddressBook typical = new VersionedAddressBook(getTypicalAddressBook());
+        typical.resetData(new AddressBook());
+        typical.commit();
+
+        typical.undo();
+        assertEquals(getTypicalPersons(), typical.getPersonList());
+        typical.redo();
+        assertEquals(Collections.emptyList(), typical.getPersonList());
+    }
+
+    @Test
+    public void undoRedo_singlePersonChanges_onlyThosePersonsChangedInList() throws IOException {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.setPerson(AMY, BOB);
+        versionedAddressBook.commit();
+        List<String> listChanges = new ArrayList<>();
+        versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                listChanges.add("at " + change.getFrom() + ", +" + change.getAddedSize() + " -"
+                        + change.getRemovedSize());
+            }
+        });
+
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList("at 1, +1 -1", "at 1, +0 -1", "at 1, +1 -0"), listChanges);
+        assertEquals(versionedAddressBook.getPersonList(), versionedAddressBook.getSnapshot().getPersonList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_discardedWithLastCommit() throws IOException {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.removePerson(ALICE);
+
+        versionedAddressBook.undo();
+        assertEquals(Collections.singletonList(ALICE), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void commit_overBudget_spillsOldEntriesToDiskAndUndoesThroughThem() throws IOException {
+        VersionedAddressBook smallBudget = new VersionedAddressBook(new AddressBook(), 0);
+        List<List<Person>> committedStates = new ArrayList<>();
+        committedStates.add(new ArrayList<>(smallBudget.getPersonList()));
+        for (Person person : getTypicalPersons()) {
+            smallBudget.addPerson(person);
+            smallBudget.commit();
+            committedStates.add(new ArrayList<>(smallBudget.getPersonList()));
+        }
+        smallBudget.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        smallBudget.removePerson(BENSON);
+        smallBudget.commit();
+        committedStates.add(new ArrayList<>(smallBudget.getPersonList()));
+        smallBudget.resetData(new AddressBook());
+        smallBudget.commit();
+        committedStates.add(new ArrayList<>(smallBudget.getPersonList()));
+
+        assertEquals(committedStates.size() - 2, smallBudget.getSpilledHistoryEntryCount());
+
+        for (int i = committedStates.size() - 2; i >= 0; i--) {
+            smallBudget.undo();
+            assertEquals(committedStates.get(i), smallBudget.getPersonList());
+        }
+        assertFalse(smallBudget.canUndo());
+
+        for (int i = 1; i < committedStates.size(); i++) {
+            smallBudget.redo();
+            assertEquals(committedStates.get(i), smallBudget.getPersonList());
+        }
+        assertFalse(smallBudget.canRedo());
+    }
+
+    @Test
+    public void commit_withinBudget_keepsHistoryInMemory() {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(AMY);
+        versionedAddressBook.commit();
+
+        assertEquals(0, versionedAddressBook.getSpilledHistoryEntryCount());
+        assertTrue(versionedAddressBook.getHistoryBytesInMemory() > 0);
+    }
+
+    @Test
+    public void compactHistory_withinBudget_spillsAllButMostRecentEntry() throws IOException {
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.commit();
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit();
+        long bytesBefore = versionedAddressBook.getHistoryBytesInMemory();
+
+        versionedAddressBook.compactHistory();
+
+        assertEquals(2, versionedAddressBook.getSpilledHistoryEntryCount());
+        assertTrue(versionedAddressBook.getHistoryBytesInMemory() < bytesBefore);
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        versionedAddressBook.undo();
+        assertEquals(Collections.singletonList(ALICE), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void clear_largeAddressBook_withinBudgetAndNotWrittenOut() throws IOException {
+        long byteBudget = 64 * 1024;
+        VersionedAddressBook largeBook = new VersionedAddressBook(new AddressBook(), byteBudget);
+        List<Person> persons = new SyntheticDataGenerator(1).generatePersons(10_000);
+        largeBook.setPersons(persons);
+        largeBook.commit();
+        largeBook.resetData(new AddressBook());
+        largeBook.commit();
+        assertTrue(largeBook.getHistoryBytesInMemory() <= byteBudget);
+
+        largeBook.addPerson(AMY);
+        largeBook.commit();
+        largeBook.compactHistory();
+        assertEquals(2, largeBook.getSpilledHistoryEntryCount());
+        // only the empty records standing in for the two entries
+        assertEquals(2 * Integer.BYTES, largeBook.getHistorySpillFile().length());
+
+        largeBook.undo();
+        largeBook.undo();
+        assertEquals(persons, largeBook.getPersonList());
+        largeBook.undo();
+        assertTrue(largeBook.getPersonList().isEmpty());
+        assertFalse(largeBook.canUndo());
+    }
+
+    @Test
+    public void undo_spilledEntryUnreadable_throwsIOExceptionAndChangesNothing() throws IOException {
+        VersionedAddressBook smallBudget =
+                new VersionedAddressBook(new AddressBookBuilder().withPerson(ALICE).build(), 0);
+        smallBudget.addPerson(AMY);
+        smallBudget.commit();
+        smallBudget.addPerson(BOB);
+        smallBudget.commit();
+        smallBudget.addPerson(CARL);
+        smallBudget.commit();
+        smallBudget.undo();
+        smallBudget.removePerson(ALICE);
+        assertEquals(2, smallBudget.getSpilledHistoryEntryCount());
+
+        File spillFile = smallBudget.getHistorySpillFile();
+        Files.write(spillFile.toPath(), new byte[(int) spillFile.length()]);
+
+        assertThrows(IOException.class, smallBudget::undo);
+        assertEquals(Arrays.asList(AMY, BOB), smallBudget.getPersonList());
+        assertEquals(2, smallBudget.getSpilledHistoryEntryCount());
+        assertTrue(smallBudget.canUndo());
+        assertTrue(smallBudget.canRedo());
+    }
+
+    @Test
+    public void undo_noUndoableState_throwsNoUndoableStateException() {
+        assertThrows(VersionedAddressBook.NoUndoableStateException.class, versionedAddressBook::undo);
+    }
+
+    @Test
+    public void redo_noRedoableState_throwsNoRedoableStateException() {
+        assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
+    }
+}
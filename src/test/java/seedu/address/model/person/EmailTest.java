@@ -1,7 +1,11 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameResultAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -58,4 +62,38 @@ public class EmailTest {
         assertTrue(Email.isValidEmail("peter_jack@very-very-very-long-example.com")); // long domain name
         assertTrue(Email.isValidEmail("if.you.dream.it_you.can.do.it@example.com")); // long local part
     }
+
+    @Test
+    public void isValidEmail_sameResultAsValidationRegex() {
+        assertSameResultAsRegex(Email.VALIDATION_REGEX, Email::isValidEmail,
+                "PeterJack_1190@example.com", "a1+be.d@example1.com", "peter_jack@very-very-very-long-example.com",
+                "a@bc", "test@localhost");
+    }
+
+    @Test
+    public void getValue_roundTrips() {
+        String value = "!#$%&'*+/=?`{|}~^.-@very-very-long.example.com";
+        Email email = new Email(value);
+        assertEquals(value, email.getValue());
+        assertEquals(value, email.toString());
+        assertEquals(value.length(), email.length());
+        assertEquals("very-very-long.example.com", email.getDomain());
+    }
+
+    @Test
+    public void constructor_sameDomain_domainShared() {
+        Email first = new Email("alice@example.com");
+        Email second = new Email(new String("bob@example.com"));
+        assertSame(first.getDomain(), second.getDomain());
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        Email email = new Email("alice@example.com");
+        assertEquals(email, new Email("alice@example.com"));
+        assertEquals("alice@example.com".hashCode(), email.hashCode());
+        assertNotEquals(email, new Email("alice@example.org"));
+        assertNotEquals(email, new Email("alicia@example.com"));
+        assertNotEquals(email, "alice@example.com");
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -38,6 +39,14 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(firstPredicate.equals(secondPredicate));
     }
 
+    @Test
+    public void constructor_invalidKeywords_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice", " ")));
+        assertThrows(IllegalArgumentException.class, () ->
+                new NameContainsKeywordsPredicate(Arrays.asList("Alice Bob")));
+    }
+
     @Test
     public void test_nameContainsKeywords_returnsTrue() {
         // One keyword
@@ -55,6 +64,11 @@ public class NameContainsKeywordsPredicateTest {
         // Mixed-case keywords
         predicate = new NameContainsKeywordsPredicate(Arrays.asList("aLIce", "bOB"));
         assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+
+        // Keywords with surrounding spaces, and characters equal to letters ignoring case
+        predicate = new NameContainsKeywordsPredicate(Arrays.asList("  Bob  ", "\u212Aumar"));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Bob").build()));
+        assertTrue(predicate.test(new PersonBuilder().withName("Alice Kumar").build()));
     }
 
     @Test
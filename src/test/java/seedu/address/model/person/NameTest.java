@@ -1,9 +1,17 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameResultAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -37,4 +45,31 @@ public class NameTest {
         assertTrue(Name.isValidName("Capital Tan")); // with capital letters
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
+
+    @Test
+    public void isValidName_sameResultAsValidationRegex() {
+        assertSameResultAsRegex(Name.VALIDATION_REGEX, Name::isValidName,
+                "peter jack", "Capital Tan", "David Roger Jackson Ray Jr 2nd", "12345");
+    }
+
+    @Test
+    public void getFoldedWords() {
+        assertEquals(Collections.singletonList("peter"), new Name("Peter").getFoldedWords());
+        assertEquals(Arrays.asList("peter", "the", "2nd"), new Name("Peter  the 2ND ").getFoldedWords());
+    }
+
+    @Test
+    public void getFoldedWords_sameWordInDifferentNames_wordShared() {
+        List<String> firstWords = new Name("Alex Yeoh").getFoldedWords();
+        List<String> secondWords = new Name("ALEX Tan").getFoldedWords();
+        assertSame(firstWords.get(0), secondWords.get(0));
+    }
+
+    @Test
+    public void containsAnyWord() {
+        Name name = new Name("Alice Bob");
+        assertTrue(name.containsAnyWord(new HashSet<>(Arrays.asList("carol", "bob"))));
+        assertFalse(name.containsAnyWord(new HashSet<>(Arrays.asList("alice bob", "ali", "Alice"))));
+        assertFalse(name.containsAnyWord(Collections.emptySet()));
+    }
 }
@@ -0,0 +1,132 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.commons.util.OffHeapRecordStore;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.PersonBuilder;
+
+public class OffHeapPersonListTest {
+
+    private final OffHeapPersonList offHeapPersonList = new OffHeapPersonList(new OffHeapRecordStore(1024));
+
+    @Test
+    public void contains_personWithSameIdentityFieldsInList_returnsTrue() {
+        assertFalse(offHeapPersonList.contains(ALICE));
+        offHeapPersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND)
+                .build();
+        assertTrue(offHeapPersonList.contains(editedAlice));
+        assertFalse(offHeapPersonList.contains(BOB));
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() {
+        offHeapPersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> offHeapPersonList.add(ALICE));
+        assertThrows(NullPointerException.class, () -> offHeapPersonList.add(null));
+    }
+
+    @Test
+    public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
+        offHeapPersonList.add(ALICE);
+        offHeapPersonList.add(BOB);
+        assertThrows(DuplicatePersonException.class, () -> offHeapPersonList.setPerson(ALICE, BOB));
+        assertThrows(PersonNotFoundException.class, () -> offHeapPersonList.setPerson(
+                new PersonBuilder().withName("Nobody").build(), ALICE));
+    }
+
+    @Test
+    public void remove_personDoesNotExist_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> offHeapPersonList.remove(ALICE));
+    }
+
+    @Test
+    public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
+        assertThrows(DuplicatePersonException.class, () -> offHeapPersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> offHeapPersonList.asUnmodifiableObservableList().remove(0));
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_listenersNotified() {
+        AtomicInteger changeCount = new AtomicInteger();
+        offHeapPersonList.asUnmodifiableObservableList().addListener(
+                (ListChangeListener<Person>) change -> changeCount.incrementAndGet());
+        offHeapPersonList.add(ALICE);
+        offHeapPersonList.setPerson(ALICE, BOB);
+        offHeapPersonList.remove(BOB);
+        assertEquals(3, changeCount.get());
+    }
+
+    @Test
+    public void operations_sameResultsAsUniquePersonList() {
+        List<Person> persons = new SyntheticDataGenerator(1).generatePersons(300);
+        UniquePersonList expected = new UniquePersonList();
+        expected.setPersons(getTypicalPersons());
+        offHeapPersonList.setPersons(getTypicalPersons());
+
+        Random random = new Random(1);
+        for (Person person : persons) {
+            int size = expected.asUnmodifiableObservableList().size();
+            switch (random.nextInt(4)) {
+            case 0:
+                expected.add(person);
+                offHeapPersonList.add(person);
+                break;
+            case 1:
+                int index = random.nextInt(size + 1);
+                expected.add(index, person);
+                offHeapPersonList.add(index, person);
+                break;
+            case 2:
+                if (size > 0) {
+                    int replaced = random.nextInt(size);
+                    expected.setPerson(replaced, person);
+                    offHeapPersonList.setPerson(replaced, person);
+                }
+                break;
+            default:
+                if (size > 0) {
+                    int removed = random.nextInt(size);
+                    expected.removeAt(removed);
+                    offHeapPersonList.removeAt(removed);
+                }
+                break;
+            }
+            assertEquals(expected.asUnmodifiableObservableList(), offHeapPersonList.asUnmodifiableObservableList());
+        }
+        for (Person person : expected) {
+            assertTrue(offHeapPersonList.contains(person));
+            assertEquals(expected.indexOf(person), offHeapPersonList.indexOf(person));
+        }
+        assertTrue(offHeapPersonList.getOffHeapBytes() > 0);
+
+        offHeapPersonList.setPersons(Collections.emptyList());
+        assertEquals(0, offHeapPersonList.size());
+    }
+}
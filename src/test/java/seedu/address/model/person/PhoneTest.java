@@ -1,7 +1,10 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertSameResultAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -37,4 +40,39 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("93121534"));
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
+
+    @Test
+    public void isValidPhone_sameResultAsValidationRegex() {
+        assertSameResultAsRegex(Phone.VALIDATION_REGEX, Phone::isValidPhone, "911", "93121534", "12429384203312345678");
+    }
+
+    @Test
+    public void getValue_roundTrips() {
+        String[] values = {"911", "007", "0000", "93121534", "1242938420331234", // up to MAX_DIGITS_IN_LONG
+            "00000000000000000", "12429384203312345", "124293842033123456", "0123456789012345678901234567890"};
+        for (String value : values) {
+            Phone phone = new Phone(value);
+            assertEquals(value, phone.getValue());
+            assertEquals(value, phone.toString());
+            assertEquals(value.length(), phone.length());
+        }
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        Phone phone = new Phone("93121534");
+        assertEquals(phone, new Phone("93121534"));
+        assertEquals(phone.hashCode(), new Phone("93121534").hashCode());
+        assertNotEquals(phone, new Phone("93121535"));
+        assertNotEquals(phone, "93121534");
+
+        // leading zeros are part of the number
+        assertNotEquals(new Phone("911"), new Phone("0911"));
+        assertNotEquals(new Phone("0000000000000000"), new Phone("00000000000000000"));
+
+        Phone longPhone = new Phone("124293842033123456");
+        assertEquals(longPhone, new Phone("124293842033123456"));
+        assertEquals(longPhone.hashCode(), new Phone("124293842033123456").hashCode());
+        assertNotEquals(longPhone, new Phone("1242938420331234567"));
+    }
 }
@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
@@ -162,6 +164,39 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityDifferentFields_throwsDuplicatePersonException() {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(BOB, ALICE, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void setPersons_listWithSameNameDifferentIdentity_replacesOwnListWithProvidedList() {
+        Person otherAlice = new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build();
+        List<Person> personList = Arrays.asList(ALICE, otherAlice);
+        uniquePersonList.setPersons(personList);
+        assertEquals(personList, uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void replayInsert_index_insertedInListAndSnapshot() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.replayInsert(0, BOB);
+        List<Person> expectedList = Arrays.asList(BOB, ALICE);
+        assertEquals(expectedList, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(expectedList, uniquePersonList.asSnapshotList());
+    }
+
+    @Test
+    public void replayReplace_index_replacedInListAndSnapshot() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.replayReplace(0, BOB);
+        List<Person> expectedList = Collections.singletonList(BOB);
+        assertEquals(expectedList, uniquePersonList.asUnmodifiableObservableList());
+        assertEquals(expectedList, uniquePersonList.asSnapshotList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
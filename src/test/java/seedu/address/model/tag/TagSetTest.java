@@ -0,0 +1,80 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+
+    private static final Tag FRIENDS = Tag.of("friends");
+    private static final Tag COLLEAGUES = Tag.of("colleagues");
+    private static final Tag FAMILY = Tag.of("family");
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+        assertThrows(NullPointerException.class, () -> TagSet.of(Arrays.asList(FRIENDS, null)));
+    }
+
+    @Test
+    public void of_emptyCollection_returnsSharedEmptySet() {
+        assertSame(TagSet.empty(), TagSet.of(Collections.emptySet()));
+        assertTrue(TagSet.empty().isEmpty());
+    }
+
+    @Test
+    public void of_duplicatesAndUnsortedTags_distinctTagsSortedByName() {
+        TagSet tags = TagSet.of(Arrays.asList(FRIENDS, FAMILY, COLLEAGUES, FRIENDS));
+        List<Tag> iterated = new ArrayList<>();
+        tags.forEach(iterated::add);
+
+        assertEquals(3, tags.size());
+        assertEquals(Arrays.asList(COLLEAGUES, FAMILY, FRIENDS), iterated);
+        assertEquals(iterated, new ArrayList<>(tags));
+        assertSame(tags, TagSet.of(tags));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(Arrays.asList(FRIENDS, FAMILY));
+        assertTrue(tags.contains(FRIENDS));
+        assertFalse(tags.contains(COLLEAGUES));
+        assertFalse(tags.contains("friends"));
+    }
+
+    @Test
+    public void equalsAndHashCode_matchOtherSets() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(FRIENDS, FAMILY));
+        TagSet tags = TagSet.of(hashSet);
+
+        assertEquals(tags, TagSet.of(Arrays.asList(FAMILY, FRIENDS)));
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet, tags);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertNotEquals(tags, TagSet.of(Arrays.asList(FAMILY, COLLEAGUES)));
+        assertNotEquals(tags, TagSet.of(Collections.singleton(FAMILY)));
+        assertNotEquals(tags, Arrays.asList(FAMILY, FRIENDS));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        TagSet tags = TagSet.of(Collections.singleton(FRIENDS));
+        assertThrows(UnsupportedOperationException.class, () -> tags.add(FAMILY));
+        assertThrows(UnsupportedOperationException.class, () -> tags.remove(COLLEAGUES));
+        assertThrows(UnsupportedOperationException.class, () -> tags.clear());
+        assertThrows(UnsupportedOperationException.class, () -> tags.removeIf(tag -> true));
+        assertThrows(UnsupportedOperationException.class, () -> tags.iterator().remove());
+    }
+}
@@ -1,20 +1,50 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertSameResultAsRegex;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.assumeCollected;
+
+import java.lang.ref.WeakReference;
 
 import org.junit.jupiter.api.Test;
 
 public class TagTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Tag(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
     }
 
     @Test
-    public void constructor_invalidTagName_throwsIllegalArgumentException() {
+    public void of_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(invalidTagName));
+    }
+
+    @Test
+    public void of_sameName_sameInstance() {
+        Tag tag = Tag.of("friends");
+        assertSame(tag, Tag.of(new String("friends")));
+        assertEquals("friends", tag.tagName);
+    }
+
+    @Test
+    public void of_tagStillReferenced_sameInstance() {
+        Tag tag = Tag.of(new String("referencedTagName"));
+        System.gc();
+        assertSame(tag, Tag.of(new String("referencedTagName")));
+    }
+
+    @Test
+    public void of_unusedTag_collectedAndCreatedAgain() throws InterruptedException {
+        WeakReference<Tag> reference = new WeakReference<>(Tag.of(new String("unusedTagName")));
+        assumeCollected(reference);
+
+        Tag tag = Tag.of(new String("unusedTagName"));
+        assertEquals("unusedTagName", tag.tagName);
+        assertSame(tag, Tag.of("unusedTagName"));
     }
 
     @Test
@@ -23,4 +53,9 @@ public class TagTest {
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void isValidTagName_sameResultAsValidationRegex() {
+        assertSameResultAsRegex(Tag.VALIDATION_REGEX, Tag::isValidTagName, "friends", "colleague2");
+    }
+
 }
@@ -0,0 +1,79 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+import seedu.address.model.util.Footprint.Component;
+import seedu.address.testutil.PersonBuilder;
+
+public class FootprintEstimatorTest {
+
+    @Test
+    public void shallowBytes_modelClasses_headerPlusFieldsAligned() {
+        assertEquals(24, FootprintEstimator.shallowBytes(Name.class));
+        assertEquals(16, FootprintEstimator.shallowBytes(Tag.class));
+        assertEquals(24, FootprintEstimator.shallowBytes(Email.class));
+        assertEquals(24, FootprintEstimator.shallowBytes(Phone.class));
+        assertEquals(24, FootprintEstimator.shallowBytes(Long.class));
+    }
+
+    @Test
+    public void stringBytes_latin1AndWideCharacters() {
+        assertEquals(24 + 32, FootprintEstimator.stringBytes("abcdefghij"));
+        assertEquals(24 + 40, FootprintEstimator.stringBytes("中文中文中文中文中文"));
+    }
+
+    @Test
+    public void estimate_emptyAddressBook_onlyUndoHistory() {
+        Footprint footprint = FootprintEstimator.estimate(new AddressBook(), 100);
+        assertEquals(0, footprint.getPersonCount());
+        assertEquals(0, footprint.getBytes(Component.STRINGS));
+        assertEquals(100, footprint.getBytes(Component.UNDO_HISTORY));
+        assertEquals(0, footprint.getBytesPerPerson());
+    }
+
+    @Test
+    public void estimate_sharedAndDuplicateObjects_sharedCountedOnce() {
+        Tag sharedTag = Tag.of("friends");
+        Person first = new PersonBuilder().withName("Alice Pauline").withPhone("94351253")
+                .withEmail("alice@example.com").withTags().build();
+        Person second = new Person(first.getName(), new Phone("98765432"), new Email("alice@example.net"),
+                first.getAddress(), Collections.singleton(sharedTag));
+        Person third = new Person(new Name(new String("Alice Pauline")), new Phone("91234567"),
+                new Email("alice@example.org"), first.getAddress(), Collections.singleton(sharedTag));
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(first, second, third));
+
+        Footprint footprint = FootprintEstimator.estimate(addressBook, 0);
+
+        // the persons share their address, and the first two their name; the third has its own copy of it
+        long personObjects = 3 * FootprintEstimator.shallowBytes(Person.class)
+                + 2 * FootprintEstimator.shallowBytes(Name.class) + 16
+                + 3 * FootprintEstimator.shallowBytes(Phone.class) + 3 * FootprintEstimator.shallowBytes(Email.class);
+        assertEquals(personObjects, footprint.getBytes(Component.PERSON_OBJECTS));
+        long nameBytes = FootprintEstimator.stringBytes("Alice Pauline");
+        assertEquals(nameBytes, footprint.getDuplicateStringBytes());
+        // both names have their own array of words, but the folded words are shared
+        long nameWords = 2 * FootprintEstimator.referenceArrayBytes(2)
+                + FootprintEstimator.stringBytes("alice") + FootprintEstimator.stringBytes("pauline");
+        assertEquals(nameWords, footprint.getBytes(Component.NAME_WORDS));
+        // the first person has the shared empty set, the others one tag set each, holding the same tag
+        long tagSets = 3 * FootprintEstimator.shallowBytes(TagSet.class)
+                + 2 * FootprintEstimator.referenceArrayBytes(1) + FootprintEstimator.shallowBytes(Tag.class);
+        assertEquals(tagSets, footprint.getBytes(Component.TAG_SETS));
+        assertEquals(footprint.getTotalBytes() / 3, footprint.getBytesPerPerson());
+        assertTrue(footprint.format().contains("3 persons"));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+
+public class PersonCodecTest {
+
+    @Test
+    public void write_thenRead_returnsEqualPersons() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        for (Person person : getTypicalPersons()) {
+            PersonCodec.write(out, person);
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        List<Person> readBack = new ArrayList<>();
+        for (int i = 0; i < getTypicalPersons().size(); i++) {
+            readBack.add(PersonCodec.read(in));
+        }
+        assertEquals(getTypicalPersons(), readBack);
+    }
+
+    @Test
+    public void read_truncatedInput_throwsEofException() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PersonCodec.write(new DataOutputStream(bytes), ALICE);
+        byte[] truncated = new byte[bytes.size() - 1];
+        System.arraycopy(bytes.toByteArray(), 0, truncated, 0, truncated.length);
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(truncated));
+        assertThrows(EOFException.class, () -> PersonCodec.read(in));
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class SyntheticDataGeneratorTest {
+
+    @TempDir
+    public Path tempDir;
+
+    private final SyntheticDataGenerator generator = new SyntheticDataGenerator(42);
+
+    @Test
+    public void generatePersons_sameSeed_samePersons() {
+        List<Person> persons = generator.generatePersons(500);
+        assertEquals(persons, new SyntheticDataGenerator(42).generatePersons(500));
+        assertEquals(persons.get(321), generator.getPerson(321));
+    }
+
+    @Test
+    public void generatePersons_differentSeed_differentPersons() {
+        assertNotEquals(generator.generatePersons(50), new SyntheticDataGenerator(43).generatePersons(50));
+    }
+
+    @Test
+    public void getPerson_negativeIndex_throwsIndexOutOfBoundsException() {
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getPerson(-1));
+    }
+
+    @Test
+    public void generateAddressBook_accepted_byAddressBook() {
+        ReadOnlyAddressBook generated = generator.generateAddressBook(20000);
+        AddressBook addressBook = new AddressBook(generated);
+        assertEquals(20000, addressBook.getPersonList().size());
+        assertEquals(generated.getPersonList(), addressBook.getPersonList());
+    }
+
+    @Test
+    public void generatePersons_containsNearDuplicatesAndSkew() {
+        List<Person> persons = generator.generatePersons(20000);
+        Map<Name, Integer> nameCounts = new HashMap<>();
+        Set<Phone> phones = new HashSet<>();
+        int sharedPhones = 0;
+        for (Person person : persons) {
+            nameCounts.merge(person.getName(), 1, Integer::sum);
+            if (!phones.add(person.getPhone())) {
+                sharedPhones++;
+            }
+        }
+
+        assertTrue(sharedPhones > 0);
+        assertTrue(nameCounts.values().stream().anyMatch(count -> count > 1));
+        long tans = persons.stream().filter(person -> person.getName().fullName.endsWith(" Tan")).count();
+        long browns = persons.stream().filter(person -> person.getName().fullName.endsWith(" Brown")).count();
+        assertTrue(tans > 5 * browns);
+    }
+
+    @Test
+    public void generateAddressBook_savedToStorage_readBackEqual() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(tempDir.resolve("generated.json"));
+        storage.saveAddressBook(generator.generateAddressBook(1000));
+        assertEquals(generator.generatePersons(1000), storage.readAddressBook().get().getPersonList());
+    }
+}
@@ -2,10 +2,12 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
+import static seedu.address.storage.JsonAdaptedPerson.UNKNOWN_ADDRESS_MESSAGE_FORMAT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -98,6 +100,20 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_sharedAddress_returnsPerson() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(BENSON, 0);
+        assertEquals(BENSON, person.toModelType(Collections.singletonList(BENSON.getAddress())));
+    }
+
+    @Test
+    public void toModelType_unknownSharedAddress_throwsIllegalValueException() {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, null, 1, VALID_TAGS);
+        String expectedMessage = String.format(UNKNOWN_ADDRESS_MESSAGE_FORMAT, 1);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> person.toModelType(
+                Collections.singletonList(new Address(VALID_ADDRESS))));
+    }
+
     @Test
     public void toModelType_invalidTags_throwsIllegalValueException() {
         List<JsonAdaptedTag> invalidTags = new ArrayList<>(VALID_TAGS);
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,13 +10,19 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.jfr.AddressBookStorageEvent;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
@@ -107,4 +114,35 @@ public class JsonAddressBookStorageTest {
     public void saveAddressBook_nullFilePath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(new AddressBook(), null));
     }
+
+    @Test
+    public void readAndSaveAddressBook_flightRecording_eventsRecorded() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Path recordingPath = testFolder.resolve("storage.jfr");
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+
+        try (Recording recording = new Recording()) {
+            recording.enable(AddressBookStorageEvent.class);
+            recording.start();
+            jsonAddressBookStorage.saveAddressBook(original);
+            jsonAddressBookStorage.readAddressBook();
+            recording.stop();
+            recording.dump(recordingPath);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingPath);
+        assertEquals(2, events.size());
+        assertStorageEvent(events.get(0), AddressBookStorageEvent.OPERATION_SAVE, filePath, original);
+        assertStorageEvent(events.get(1), AddressBookStorageEvent.OPERATION_READ, filePath, original);
+    }
+
+    private void assertStorageEvent(RecordedEvent event, String expectedOperation, Path expectedFilePath,
+            ReadOnlyAddressBook expectedAddressBook) throws IOException {
+        assertEquals(expectedOperation, event.getString("operation"));
+        assertEquals(expectedFilePath.toString(), event.getString("path"));
+        assertEquals(Files.size(expectedFilePath), event.getLong("bytes"));
+        assertEquals(expectedAddressBook.getPersonList().size(), event.getInt("recordCount"));
+        assertTrue(event.getBoolean("succeeded"));
+    }
 }
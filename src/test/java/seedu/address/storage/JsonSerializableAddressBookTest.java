@@ -1,16 +1,24 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +27,7 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path SHARED_ADDRESSES_FILE = TEST_DATA_FOLDER.resolve("sharedAddressesAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +53,36 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_sharedAddressesFile_success() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(SHARED_ADDRESSES_FILE,
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+        Person carlAtAlices = new PersonBuilder(CARL).withAddress(ALICE.getAddress().value).build();
+        AddressBook expected = new AddressBook();
+        expected.setPersons(Arrays.asList(ALICE, BENSON, carlAtAlices));
+        assertEquals(expected, addressBookFromFile);
+        assertSame(addressBookFromFile.getPersonList().get(0).getAddress(),
+                addressBookFromFile.getPersonList().get(2).getAddress());
+    }
+
+    @Test
+    public void constructor_sharedAddress_writtenOnce() throws Exception {
+        Person carlAtAlices = new PersonBuilder(CARL).withAddress(ALICE.getAddress().value).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(ALICE, BENSON, carlAtAlices));
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        String sharedAddress = ALICE.getAddress().value;
+        assertEquals(json.indexOf(sharedAddress), json.lastIndexOf(sharedAddress));
+        assertEquals(addressBook, JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType());
+    }
+
+    @Test
+    public void constructor_noSharedAddresses_noAddressList() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(TypicalPersons.getTypicalAddressBook()));
+        assertFalse(json.contains("addresses"));
+        assertFalse(json.contains("addressIndex"));
+    }
+
 }
@@ -1,9 +1,14 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -60,6 +65,28 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_successAndFailure_recordedInSaveStatistics() throws Exception {
+        SaveStatistics statistics = storageManager.getSaveStatistics();
+        assertEquals(0, statistics.getSaveCount());
+        assertFalse(statistics.isDirty());
+
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertEquals(1, statistics.getSaveCount());
+        assertEquals(Files.size(storageManager.getAddressBookFilePath()), statistics.getLastSaveBytes());
+        assertFalse(statistics.isDirty());
+
+        // the parent of the target is a file, so the save fails
+        Path unwritablePath = storageManager.getAddressBookFilePath().resolve("ab");
+        assertThrows(IOException.class, () -> storageManager.saveAddressBook(getTypicalAddressBook(), unwritablePath));
+        assertEquals(2, statistics.getSaveCount());
+        assertEquals(1, statistics.getFailedSaveCount());
+        assertTrue(statistics.isDirty());
+
+        storageManager.saveAddressBook(new AddressBook());
+        assertFalse(statistics.isDirty());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
@@ -0,0 +1,95 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.function.Executable;
+
+/**
+ * Measures the bytes allocated on the heap by a piece of code, using the allocation counters the HotSpot JVM keeps
+ * for every thread.
+ *
+ * The code is run many times before it is measured, so that class loading, one-off initialization and the JIT
+ * compiler settle down, and the smallest of several measurements is taken. Budgets should still leave some headroom,
+ * since allocation varies a little between JVM versions and garbage collectors.
+ */
+public class AllocationMeter {
+
+    private static final int WARMUP_RUNS = 200;
+    private static final int MEASURED_RUNS = 10;
+
+    private static final com.sun.management.ThreadMXBean THREAD_BEAN = getThreadBean();
+
+    /**
+     * Returns true if this JVM can count the bytes allocated by a thread.
+     */
+    public static boolean isSupported() {
+        return THREAD_BEAN != null && THREAD_BEAN.isThreadAllocatedMemorySupported()
+                && THREAD_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Returns the bytes allocated by one run of {@code action}.
+     * {@code setUp} is run, unmeasured, before every run of {@code action}, e.g. to undo its changes.
+     */
+    public static long measure(Executable setUp, Executable action) throws Throwable {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("This JVM does not count allocated bytes");
+        }
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            setUp.execute();
+            action.execute();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long overhead = Long.MAX_VALUE;
+        long allocated = Long.MAX_VALUE;
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            // the counter itself may allocate, so that is measured and subtracted
+            long before = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            overhead = Math.min(overhead, THREAD_BEAN.getThreadAllocatedBytes(threadId) - before);
+
+            setUp.execute();
+            before = THREAD_BEAN.getThreadAllocatedBytes(threadId);
+            action.execute();
+            allocated = Math.min(allocated, THREAD_BEAN.getThreadAllocatedBytes(threadId) - before);
+        }
+        return Math.max(0, allocated - overhead);
+    }
+
+    /**
+     * Returns the bytes allocated by one run of {@code action}.
+     */
+    public static long measure(Executable action) throws Throwable {
+        return measure(() -> { }, action);
+    }
+
+    /**
+     * Asserts that one run of {@code action} allocates at most {@code budgetBytes}.
+     * The test is skipped on JVMs that cannot count allocated bytes.
+     * {@code setUp} is run, unmeasured, before every run of {@code action}.
+     */
+    public static void assertAllocatesAtMost(long budgetBytes, String description, Executable setUp,
+            Executable action) throws Throwable {
+        assumeTrue(isSupported(), "This JVM does not count allocated bytes");
+        long allocated = measure(setUp, action);
+        assertTrue(allocated <= budgetBytes, description + " allocated " + allocated + " bytes, over its budget of "
+                + budgetBytes + " bytes");
+    }
+
+    /**
+     * Asserts that one run of {@code action} allocates at most {@code budgetBytes}.
+     * The test is skipped on JVMs that cannot count allocated bytes.
+     */
+    public static void assertAllocatesAtMost(long budgetBytes, String description, Executable action)
+            throws Throwable {
+        assertAllocatesAtMost(budgetBytes, description, () -> { }, action);
+    }
+
+    private static com.sun.management.ThreadMXBean getThreadBean() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean ? (com.sun.management.ThreadMXBean) bean : null;
+    }
+}
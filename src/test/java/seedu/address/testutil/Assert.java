@@ -1,5 +1,9 @@
 package seedu.address.testutil;
 
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.function.Executable;
 
@@ -8,6 +12,17 @@ import org.junit.jupiter.api.function.Executable;
  */
 public class Assert {
 
+    /**
+     * The characters that validators are tried on: every character that some field allows, and others chosen to be
+     * near the edges of the character classes used by the validation regular expressions, including whitespace, line
+     * terminators, non-ASCII letters and digits, and the halves of a surrogate pair.
+     */
+    private static final String VALIDATION_ALPHABET = "aAzZ09_ @.-!#$%&'*+/=?`{|}~^()[]\\,;:\"<>"
+            + "\t\n\u000B\f\r\u001C\u0085\u00A0\u2028\u2029\u3000"
+            + "\u00E9\u00C9\u0131\u017F\u212A\u0663\uFF11\uD83D\uDE00";
+    private static final int RANDOM_VALIDATION_INPUTS = 20000;
+    private static final int MAX_RANDOM_VALIDATION_INPUT_LENGTH = 8;
+
     /**
      * Asserts that the {@code executable} throws the {@code expectedType} Exception.
      * This is a wrapper method that invokes {@link Assertions#assertThrows(Class, Executable)}, to maintain consistency
@@ -31,4 +46,50 @@ public class Assert {
         Throwable thrownException = Assertions.assertThrows(expectedType, executable);
         Assertions.assertEquals(expectedMessage, thrownException.getMessage());
     }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the strings that fully match {@code regex}, among every string one
+     * insertion, replacement or deletion of a character away from one of {@code examples}, and many random strings.
+     * All the characters added are from a fixed alphabet of characters likely to be treated differently.
+     */
+    public static void assertSameResultAsRegex(String regex, Predicate<String> validator, String... examples) {
+        Pattern pattern = Pattern.compile(regex);
+        for (String example : examples) {
+            assertSameResult(pattern, validator, example);
+            for (int i = 0; i <= example.length(); i++) {
+                if (i < example.length()) {
+                    assertSameResult(pattern, validator, example.substring(0, i) + example.substring(i + 1));
+                }
+                for (char c : VALIDATION_ALPHABET.toCharArray()) {
+                    assertSameResult(pattern, validator, example.substring(0, i) + c + example.substring(i));
+                    if (i < example.length()) {
+                        assertSameResult(pattern, validator, example.substring(0, i) + c + example.substring(i + 1));
+                    }
+                }
+            }
+        }
+
+        Random random = new Random(regex.hashCode());
+        for (int i = 0; i < RANDOM_VALIDATION_INPUTS; i++) {
+            char[] input = new char[random.nextInt(MAX_RANDOM_VALIDATION_INPUT_LENGTH + 1)];
+            for (int j = 0; j < input.length; j++) {
+                input[j] = VALIDATION_ALPHABET.charAt(random.nextInt(VALIDATION_ALPHABET.length()));
+            }
+            assertSameResult(pattern, validator, new String(input));
+        }
+    }
+
+    private static void assertSameResult(Pattern pattern, Predicate<String> validator, String input) {
+        if (pattern.matcher(input).matches() != validator.test(input)) {
+            Assertions.fail("Different result from " + pattern + " for \"" + escape(input) + "\"");
+        }
+    }
+
+    private static String escape(String input) {
+        StringBuilder escaped = new StringBuilder();
+        for (char c : input.toCharArray()) {
+            escaped.append(c >= ' ' && c < 0x7F ? String.valueOf(c) : String.format("\\u%04X", (int) c));
+        }
+        return escaped.toString();
+    }
 }
@@ -1,6 +1,9 @@
 package seedu.address.testutil;
 
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
 import java.io.IOException;
+import java.lang.ref.WeakReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -52,4 +55,16 @@ public class TestUtil {
     public static Person getPerson(Model model, Index index) {
         return model.getFilteredPersonList().get(index.getZeroBased());
     }
+
+    /**
+     * Asks the garbage collector to clear {@code reference}, and skips the calling test if it has not been cleared
+     * after a few tries. Collection cannot be forced: {@code System.gc()} is only a request, and some JVMs ignore it.
+     */
+    public static void assumeCollected(WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assumeTrue(reference.get() == null, "The garbage collector did not clear the reference");
+    }
 }